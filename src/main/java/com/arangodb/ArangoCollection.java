@@ -20,7 +20,10 @@
 
 package com.arangodb;
 
+import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.stream.Stream;
 
 import com.arangodb.entity.CollectionEntity;
 import com.arangodb.entity.CollectionPropertiesEntity;
@@ -31,6 +34,7 @@ import com.arangodb.entity.DocumentImportEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.MultiDocumentKeysEntity;
 import com.arangodb.entity.Permissions;
 import com.arangodb.entity.ShardEntity;
 import com.arangodb.model.CollectionCountOptions;
@@ -129,6 +133,21 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
 	<T> MultiDocumentEntity<DocumentCreateEntity<T>> insertDocuments(
 			Collection<T> values, DocumentCreateOptions options) throws ArangoDBException;
 
+	/**
+	 * Creates new documents like {@link #insertDocuments(Collection, DocumentCreateOptions)}, but
+	 * only returns the keys and revisions of the documents and the errors of the documents which failed. New and old
+	 * documents are only decoded if they are requested with the options. The option {@code silent} is not supported.
+	 *
+	 * @param values  A List of documents (POJO, VPackSlice or String for JSON)
+	 * @param options Additional options, can be null
+	 * @return keys, revisions and errors of the documents
+	 * @throws ArangoDBException
+	 * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-document">API
+	 * Documentation</a>
+	 */
+	<T> MultiDocumentKeysEntity<T> insertDocumentsCompact(Collection<T> values, DocumentCreateOptions options)
+			throws ArangoDBException;
+
 	/**
 	 * Bulk imports the given values into the collection.
 	 *
@@ -177,6 +196,36 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
 	 */
 	DocumentImportEntity importDocuments(String values, DocumentImportOptions options) throws ArangoDBException;
 
+	/**
+	 * Bulk imports JSON lines, one document per line, from the given stream. The stream is read in batches of
+	 * {@link DocumentImportOptions#batchSize(Integer)} bytes, which are sent with up to
+	 * {@link DocumentImportOptions#parallelism(Integer)} concurrent requests. The stream is not closed.
+	 * <p>
+	 * If {@link DocumentImportOptions#overwrite(Boolean)} is set, the collection is emptied by the first batch, which is
+	 * completed before the others are sent. Positions in the error details count the documents of the whole stream.
+	 * {@link DocumentImportOptions#complete(Boolean)} is not supported.
+	 * <p>
+	 * Reading stops at the first failed batch. The batches already sent are awaited, and the exception reports how many
+	 * documents they imported.
+	 *
+	 * @param values  UTF-8 encoded JSON lines
+	 * @param options Additional options, can be null
+	 * @return information about the import, summed up over all batches
+	 * @throws ArangoDBException
+	 */
+	DocumentImportEntity importDocuments(InputStream values, DocumentImportOptions options) throws ArangoDBException;
+
+	/**
+	 * Bulk imports JSON lines, one document per line, from the given file. See
+	 * {@link #importDocuments(InputStream, DocumentImportOptions)}.
+	 *
+	 * @param values  file containing UTF-8 encoded JSON lines
+	 * @param options Additional options, can be null
+	 * @return information about the import, summed up over all batches
+	 * @throws ArangoDBException
+	 */
+	DocumentImportEntity importDocuments(Path values, DocumentImportOptions options) throws ArangoDBException;
+
 	/**
 	 * Retrieves the document with the given {@code key} from the collection.
 	 *
@@ -278,6 +327,21 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
 	<T> MultiDocumentEntity<DocumentUpdateEntity<T>> replaceDocuments(
 			Collection<T> values, DocumentReplaceOptions options) throws ArangoDBException;
 
+	/**
+	 * Replaces multiple documents like {@link #replaceDocuments(Collection, DocumentReplaceOptions)}, but
+	 * only returns the keys and revisions of the documents and the errors of the documents which failed. New and old
+	 * documents are only decoded if they are requested with the options. The option {@code silent} is not supported.
+	 *
+	 * @param values  A List of documents (POJO, VPackSlice or String for JSON)
+	 * @param options Additional options, can be null
+	 * @return keys, revisions and errors of the documents
+	 * @throws ArangoDBException
+	 * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
+	 * Documentation</a>
+	 */
+	<T> MultiDocumentKeysEntity<T> replaceDocumentsCompact(Collection<T> values, DocumentReplaceOptions options)
+			throws ArangoDBException;
+
 	/**
 	 * Partially updates the document identified by document-key. The value must contain a document with the attributes
 	 * to patch (the patch document). All attributes from the patch document will be added to the existing document if
@@ -338,6 +402,21 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
 	<T> MultiDocumentEntity<DocumentUpdateEntity<T>> updateDocuments(
 			Collection<T> values, DocumentUpdateOptions options) throws ArangoDBException;
 
+	/**
+	 * Partially updates documents like {@link #updateDocuments(Collection, DocumentUpdateOptions)}, but
+	 * only returns the keys and revisions of the documents and the errors of the documents which failed. New and old
+	 * documents are only decoded if they are requested with the options. The option {@code silent} is not supported.
+	 *
+	 * @param values  A List of documents (POJO, VPackSlice or String for JSON)
+	 * @param options Additional options, can be null
+	 * @return keys, revisions and errors of the documents
+	 * @throws ArangoDBException
+	 * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+	 * Documentation</a>
+	 */
+	<T> MultiDocumentKeysEntity<T> updateDocumentsCompact(Collection<T> values, DocumentUpdateOptions options)
+			throws ArangoDBException;
+
 	/**
 	 * Deletes the document with the given {@code key} from the collection.
 	 *
@@ -694,6 +773,21 @@ public interface ArangoCollection extends ArangoSerializationAccessor {
 	 */
 	ShardEntity getResponsibleShard(final Object value);
 
+	/**
+	 * Reads all documents of the collection with one stream cursor per shard, of which up to the given number are read
+	 * concurrently. With {@link com.arangodb.entity.LoadBalancingStrategy#ROUND_ROBIN} the cursors are spread across
+	 * the coordinators. On a single server the collection is read with one cursor. The order of the documents is not
+	 * defined. Closing the returned stream stops the scan.
+	 *
+	 * @param type        The type of the documents (POJO class, VPackSlice or String for JSON)
+	 * @param parallelism The maximum number of shards read at the same time
+	 * @return all documents of the collection
+	 * @throws ArangoDBException
+	 * @see <a href="https://www.arangodb.com/docs/stable/http/collection-getting.html#return-the-shard-ids-of-a-collection">API
+	 * Documentation</a>
+	 */
+	<T> Stream<T> parallelScan(Class<T> type, int parallelism) throws ArangoDBException;
+
 	/**
 	 * Retrieve the collections revision
 	 *
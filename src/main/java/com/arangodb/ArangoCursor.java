@@ -20,12 +20,17 @@
 
 package com.arangodb;
 
+import com.arangodb.entity.ColumnBatch;
 import com.arangodb.entity.CursorEntity.Stats;
 import com.arangodb.entity.CursorEntity.Warning;
+import com.arangodb.velocypack.VPackSlice;
 
 import java.io.Closeable;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 /**
  * @author Mark Vollmary
@@ -70,4 +75,73 @@ public interface ArangoCursor<T> extends ArangoIterable<T>, ArangoIterator<T>, C
      */
     List<T> asListRemaining();
 
+    /**
+     * Returns the remaining results as an unmodifiable {@code List} which keeps them in their serialized form and
+     * deserializes an element on every access. Up to the given number of bytes of results is kept on the heap, further
+     * results are written to a temporary file which is memory-mapped. The file is deleted right away and its space is
+     * released when the list is garbage collected.
+     *
+     * @param heapBudget maximum number of bytes of serialized results kept on the heap
+     * @return the remaining results as a {@code List}
+     */
+    List<T> asListRemaining(long heapBudget);
+
+    /**
+     * Returns the remaining results batch by batch, as they are returned from the server. Each batch is deserialized in
+     * one pass. A batch of which single results were already consumed only contains its remaining results.
+     *
+     * @return iterator over the remaining batches
+     */
+    ArangoIterator<List<T>> batches();
+
+    /**
+     * Returns the remaining results batch by batch, as they are returned from the server, without deserializing them.
+     * A batch of which single results were already consumed only contains its remaining results.
+     *
+     * @return iterator over the remaining batches as VelocyPack arrays
+     */
+    ArangoIterator<VPackSlice> rawBatches();
+
+    /**
+     * Returns the remaining results, which have to be objects, batch by batch with one array per attribute. Each batch
+     * is decoded in one pass without creating an object per result. Integer, floating point, string and boolean
+     * attributes are supported, an attribute must not mix them except for integer and floating point values.
+     *
+     * @return iterator over the remaining batches as columns
+     */
+    ArangoIterator<ColumnBatch> columnBatches();
+
+    /**
+     * Returns a sequential {@code Stream} of the remaining results. Closing the stream closes the cursor.
+     *
+     * @return the remaining results as a {@code Stream}
+     */
+    Stream<T> stream();
+
+    /**
+     * Returns a parallel {@code Stream} of the remaining results. The results are split at batch boundaries, so each
+     * batch is deserialized on a worker thread while the next batch is fetched. Closing the stream closes the cursor.
+     *
+     * @return the remaining results as a parallel {@code Stream}
+     */
+    Stream<T> parallelStream();
+
+    /**
+     * Returns the remaining results, which have to be numbers, as {@code LongStream}. The numbers are read directly
+     * from the batches without deserializing them to the type of the cursor, so they are not boxed. Closing the stream
+     * closes the cursor.
+     *
+     * @return the remaining results as a {@code LongStream}
+     */
+    LongStream asLongStream();
+
+    /**
+     * Returns the remaining results, which have to be numbers, as {@code DoubleStream}. The numbers are read directly
+     * from the batches without deserializing them to the type of the cursor, so they are not boxed. Closing the stream
+     * closes the cursor.
+     *
+     * @return the remaining results as a {@code DoubleStream}
+     */
+    DoubleStream asDoubleStream();
+
 }
@@ -25,6 +25,8 @@ import com.arangodb.internal.ArangoContext;
 import com.arangodb.internal.ArangoDBImpl;
 import com.arangodb.internal.ArangoDefaults;
 import com.arangodb.internal.InternalArangoDBBuilder;
+import com.arangodb.internal.QueryResultCache;
+import com.arangodb.internal.http.Http2ConnectionFactory;
 import com.arangodb.internal.http.HttpCommunication;
 import com.arangodb.internal.http.HttpConnectionFactory;
 import com.arangodb.internal.net.*;
@@ -226,6 +228,77 @@ public interface ArangoDB extends ArangoSerializationAccessor {
 			return this;
 		}
 
+		/**
+		 * Whether or not to authenticate with a JSON Web Token instead of sending the credentials with every request
+		 * (HTTP) or every connect (VST). The token is requested once from the server, shared by all connections and
+		 * refreshed in the background before it expires.
+		 *
+		 * @param useJwt whether or not to use JWT authentication (default: {@code false})
+		 * @return {@link ArangoDB.Builder}
+		 */
+		public Builder useJwt(final Boolean useJwt) {
+			setUseJwt(useJwt);
+			return this;
+		}
+
+		/**
+		 * Enables the client side query result cache, which holds the complete results of queries executed with
+		 * {@link com.arangodb.model.AqlQueryOptions#clientCache(Boolean)}. When it is full, the least recently used
+		 * result is evicted. See also {@link #queryResultCacheMaxBytes(Long)}.
+		 *
+		 * @param queryResultCacheSize maximum number of cached query results (default: {@code 0}, disabled)
+		 * @return {@link ArangoDB.Builder}
+		 */
+		public Builder queryResultCacheSize(final Integer queryResultCacheSize) {
+			setQueryResultCacheSize(queryResultCacheSize);
+			return this;
+		}
+
+		/**
+		 * @param queryResultCacheTtl time in milliseconds after which a result in the client side query result cache
+		 *                            expires (default: {@code 60000})
+		 * @return {@link ArangoDB.Builder}
+		 */
+		public Builder queryResultCacheTtl(final Long queryResultCacheTtl) {
+			setQueryResultCacheTtl(queryResultCacheTtl);
+			return this;
+		}
+
+		/**
+		 * @param queryResultCacheMaxBytes maximum size in bytes of the responses kept alive by the client side query
+		 *                                 result cache, larger results are not cached (default: 64 MiB)
+		 * @return {@link ArangoDB.Builder}
+		 */
+		public Builder queryResultCacheMaxBytes(final Long queryResultCacheMaxBytes) {
+			setQueryResultCacheMaxBytes(queryResultCacheMaxBytes);
+			return this;
+		}
+
+		/**
+		 * Whether or not compressed responses are accepted ({@code Accept-Encoding: gzip, deflate}). Compressed
+		 * responses are decompressed while they are read. Only used with HTTP protocols.
+		 *
+		 * @param acceptCompression whether or not to accept compressed responses (default: {@code true})
+		 * @return {@link ArangoDB.Builder}
+		 */
+		public Builder acceptCompression(final Boolean acceptCompression) {
+			setAcceptCompression(acceptCompression);
+			return this;
+		}
+
+		/**
+		 * Sets the size in bytes from which on request bodies are sent gzip compressed
+		 * ({@code Content-Encoding: gzip}). Only used with HTTP protocols.
+		 *
+		 * @param compressionThreshold minimum body size in bytes to compress, {@code null} never compresses request
+		 *                             bodies (default: {@code null})
+		 * @return {@link ArangoDB.Builder}
+		 */
+		public Builder compressionThreshold(final Integer compressionThreshold) {
+			setCompressionThreshold(compressionThreshold);
+			return this;
+		}
+
 		/**
 		 * Sets the chunk size when {@link Protocol#VST} is used.
 		 *
@@ -249,8 +322,15 @@ public interface ArangoDB extends ArangoSerializationAccessor {
 		 * {@link Protocol#VST} == 1
 		 * {@link Protocol#HTTP_JSON} == 20
 		 * {@link Protocol#HTTP_VPACK} == 20
+		 * {@link Protocol#HTTP2_JSON} == 1
+		 * {@link Protocol#HTTP2_VPACK} == 1
 		 * </pre>
 		 *
+		 * <p>
+		 * With {@link Protocol#HTTP2_JSON} and {@link Protocol#HTTP2_VPACK} every connection multiplexes all
+		 * concurrent requests to its host.
+		 * </p>
+		 *
 		 * @param maxConnections max number of connections
 		 * @return {@link ArangoDB.Builder}
 		 */
@@ -497,6 +577,31 @@ public interface ArangoDB extends ArangoSerializationAccessor {
 			return this;
 		}
 
+		/**
+		 * Generates a serializer and a deserializer for each of the given POJO types. The generated code accesses the
+		 * fields through method handles resolved once per type instead of reflection per document. Field names and
+		 * exclusions follow {@link com.arangodb.entity.DocumentField},
+		 * {@link com.arangodb.velocypack.annotations.SerializedName} and
+		 * {@link com.arangodb.velocypack.annotations.Expose}; custom annotations registered with
+		 * {@link #annotationFieldNaming(Class, VPackAnnotationFieldNaming)} or
+		 * {@link #annotationFieldFilter(Class, VPackAnnotationFieldFilter)} are not applied. The types need a
+		 * no-argument constructor.
+		 *
+		 * <p>
+		 * <strong>Attention:</strong>can not be used together with
+		 * {@link #serializer(ArangoSerialization)}
+		 * </p>
+		 *
+		 * @param types the POJO types
+		 * @return {@link ArangoDB.Builder}
+		 */
+		public Builder registerGeneratedCodecs(final Class<?>... types) {
+			for (final Class<?> type : types) {
+				registerGeneratedCodec(type);
+			}
+			return this;
+		}
+
 		/**
 		 * Register a {@link VPackModule} to be used within the internal serialization
 		 * process.
@@ -633,8 +738,9 @@ public interface ArangoDB extends ArangoSerializationAccessor {
 			final ArangoSerialization custom = customSerializer != null ? customSerializer : internal;
 			final ArangoSerializationFactory util = new ArangoSerializationFactory(internal, custom);
 
+			final boolean http2 = protocol == Protocol.HTTP2_JSON || protocol == Protocol.HTTP2_VPACK;
 			int protocolMaxConnections = protocol == Protocol.VST ? ArangoDefaults.MAX_CONNECTIONS_VST_DEFAULT
-					: ArangoDefaults.MAX_CONNECTIONS_HTTP_DEFAULT;
+					: http2 ? ArangoDefaults.MAX_CONNECTIONS_HTTP2_DEFAULT : ArangoDefaults.MAX_CONNECTIONS_HTTP_DEFAULT;
 			final int max = maxConnections != null ? Math.max(1, maxConnections) : protocolMaxConnections;
 			if(protocol==Protocol.VST && proxy!=null) {
 				throw new ArangoDBException("Proxy is not supported by VST communications");
@@ -642,20 +748,37 @@ public interface ArangoDB extends ArangoSerializationAccessor {
 			if (this.protocol == Protocol.VST && this.path != null && !this.path.equals("") && !this.path.equals("/")) {
 				throw new ArangoDBException("Non-empty path is not supported by VST communications");
 			}
-			final ConnectionFactory connectionFactory = (protocol == null || Protocol.VST == protocol)
-					? new VstConnectionFactorySync(host, timeout, connectionTtl, useSsl, sslContext)
-					: new HttpConnectionFactory(timeout, user, password, useSsl, sslContext, custom, protocol,
-							connectionTtl, httpCookieSpec, path);
+			final JwtAuthentication jwt = Boolean.TRUE == useJwt && user != null
+					? new JwtAuthentication(user, password, ArangoDefaults.JWT_REFRESH_MARGIN) : null;
+			final ConnectionFactory connectionFactory;
+			if (protocol == null || Protocol.VST == protocol) {
+				connectionFactory = new VstConnectionFactorySync(host, timeout, connectionTtl, useSsl, sslContext);
+			} else if (http2) {
+				connectionFactory = new Http2ConnectionFactory(timeout, user, password, useSsl, sslContext, custom,
+						protocol, connectionTtl, path, acceptCompression, compressionThreshold, jwt);
+			} else {
+				connectionFactory = new HttpConnectionFactory(timeout, user, password, useSsl, sslContext, custom,
+						protocol, connectionTtl, httpCookieSpec, path, acceptCompression, compressionThreshold,
+						jwt);
+			}
 
 			final Collection<Host> hostList = createHostList(max, connectionFactory);
 			final HostResolver hostResolver = createHostResolver(hostList, max, connectionFactory);
 			final HostHandler hostHandler = createHostHandler(hostResolver);
+			final QueryResultCache queryResultCache = queryResultCacheSize != null && queryResultCacheSize > 0
+					? new QueryResultCache(queryResultCacheSize,
+							queryResultCacheMaxBytes != null ? queryResultCacheMaxBytes
+									: ArangoDefaults.DEFAULT_QUERY_RESULT_CACHE_MAX_BYTES,
+							queryResultCacheTtl != null ? queryResultCacheTtl
+									: ArangoDefaults.DEFAULT_QUERY_RESULT_CACHE_TTL)
+					: null;
 
 			return new ArangoDBImpl(
 					new VstCommunicationSync.Builder(hostHandler).timeout(timeout).user(user).password(password)
 							.useSsl(useSsl).sslContext(sslContext).chunksize(chunksize).maxConnections(maxConnections)
-							.connectionTtl(connectionTtl),
-					new HttpCommunication.Builder(hostHandler), util, protocol, hostResolver, new ArangoContext());
+							.connectionTtl(connectionTtl).jwt(jwt),
+					new HttpCommunication.Builder(hostHandler), util, protocol, hostResolver, new ArangoContext(),
+					queryResultCache);
 		}
 
 	}
@@ -310,6 +310,20 @@ public interface ArangoDatabase extends ArangoSerializationAccessor {
      */
     <T> ArangoCursor<T> query(String query, Class<T> type) throws ArangoDBException;
 
+    /**
+     * Prepares a query for repeated execution with different bind parameters. The query text and the options are
+     * serialized only once, each execution only serializes its bind parameters.
+     *
+     * @param query   An AQL query string
+     * @param options Additional options that will be passed to the query API, can be null
+     * @param type    The type of the result (POJO class, VPackSlice, String for JSON, or Collection/List/Map)
+     * @return the prepared query
+     * @throws ArangoDBException
+     * @see <a href="https://www.arangodb.com/docs/stable/http/aql-query-cursor-accessing-cursors.html#create-cursor">API
+     * Documentation</a>
+     */
+    <T> PreparedQuery<T> prepareQuery(String query, AqlQueryOptions options, Class<T> type) throws ArangoDBException;
+
     /**
      * Return an cursor from the given cursor-ID if still existing
      *
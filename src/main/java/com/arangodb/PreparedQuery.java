@@ -0,0 +1,53 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb;
+
+import com.arangodb.model.AqlQueryOptions;
+
+import java.util.Map;
+
+/**
+ * AQL query whose query text and options are serialized once, see
+ * {@link ArangoDatabase#prepareQuery(String, AqlQueryOptions, Class)}. Executing it only serializes the bind
+ * parameters. Instances are thread-safe.
+ *
+ * @param <T> the type of the result
+ */
+public interface PreparedQuery<T> {
+
+    /**
+     * Executes the query with the given bind parameters.
+     *
+     * @param bindVars key/value pairs defining the variables to bind the query to, can be null
+     * @return cursor of the results
+     * @throws ArangoDBException
+     */
+    ArangoCursor<T> execute(Map<String, Object> bindVars) throws ArangoDBException;
+
+    /**
+     * Executes the query without bind parameters.
+     *
+     * @return cursor of the results
+     * @throws ArangoDBException
+     */
+    ArangoCursor<T> execute() throws ArangoDBException;
+
+}
@@ -39,5 +39,23 @@ public enum Protocol {
      *
      * @see <a href="https://github.com/arangodb/velocypack">VelocyPack specification</a>
      */
-    HTTP_VPACK
+    HTTP_VPACK,
+    /**
+     * HTTP/2 with JSON body
+     *
+     * <p>
+     * Requires Java 11 or later and ArangoDB 3.7 or later.
+     * </p>
+     */
+    HTTP2_JSON,
+    /**
+     * HTTP/2 with VelocyPack body
+     *
+     * <p>
+     * Requires Java 11 or later and ArangoDB 3.7 or later.
+     * </p>
+     *
+     * @see <a href="https://github.com/arangodb/velocypack">VelocyPack specification</a>
+     */
+    HTTP2_VPACK
 }
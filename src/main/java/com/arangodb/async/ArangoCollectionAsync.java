@@ -34,6 +34,7 @@ import com.arangodb.entity.DocumentImportEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.MultiDocumentKeysEntity;
 import com.arangodb.entity.Permissions;
 import com.arangodb.entity.ShardEntity;
 import com.arangodb.model.CollectionCountOptions;
@@ -127,6 +128,21 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
 			final Collection<T> values,
 			final DocumentCreateOptions options);
 
+	/**
+	 * Creates new documents like {@link #insertDocuments(Collection, DocumentCreateOptions)}, but
+	 * only returns the keys and revisions of the documents and the errors of the documents which failed. New and old
+	 * documents are only decoded if they are requested with the options. The option {@code silent} is not supported.
+	 *
+	 * @param values  A List of documents (POJO, VPackSlice or String for JSON)
+	 * @param options Additional options, can be null
+	 * @return keys, revisions and errors of the documents
+	 * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#create-document">API
+	 * Documentation</a>
+	 */
+	<T> CompletableFuture<MultiDocumentKeysEntity<T>> insertDocumentsCompact(
+			final Collection<T> values,
+			final DocumentCreateOptions options);
+
 
 	/**
 	 * Imports documents
@@ -274,6 +290,21 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
 			final Collection<T> values,
 			final DocumentReplaceOptions options);
 
+	/**
+	 * Replaces multiple documents like {@link #replaceDocuments(Collection, DocumentReplaceOptions)}, but
+	 * only returns the keys and revisions of the documents and the errors of the documents which failed. New and old
+	 * documents are only decoded if they are requested with the options. The option {@code silent} is not supported.
+	 *
+	 * @param values  A List of documents (POJO, VPackSlice or String for JSON)
+	 * @param options Additional options, can be null
+	 * @return keys, revisions and errors of the documents
+	 * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#replace-documents">API
+	 * Documentation</a>
+	 */
+	<T> CompletableFuture<MultiDocumentKeysEntity<T>> replaceDocumentsCompact(
+			final Collection<T> values,
+			final DocumentReplaceOptions options);
+
 	/**
 	 * Partially updates the document identified by document-key. The value must contain a document with the attributes
 	 * to patch (the patch document). All attributes from the patch document will be added to the existing document if
@@ -333,6 +364,21 @@ public interface ArangoCollectionAsync extends ArangoSerializationAccessor {
 			final Collection<T> values,
 			final DocumentUpdateOptions options);
 
+	/**
+	 * Partially updates documents like {@link #updateDocuments(Collection, DocumentUpdateOptions)}, but
+	 * only returns the keys and revisions of the documents and the errors of the documents which failed. New and old
+	 * documents are only decoded if they are requested with the options. The option {@code silent} is not supported.
+	 *
+	 * @param values  A List of documents (POJO, VPackSlice or String for JSON)
+	 * @param options Additional options, can be null
+	 * @return keys, revisions and errors of the documents
+	 * @see <a href="https://www.arangodb.com/docs/stable/http/document-working-with-documents.html#update-documents">API
+	 * Documentation</a>
+	 */
+	<T> CompletableFuture<MultiDocumentKeysEntity<T>> updateDocumentsCompact(
+			final Collection<T> values,
+			final DocumentUpdateOptions options);
+
 	/**
 	 * Removes a document
 	 *
@@ -33,6 +33,7 @@ import com.arangodb.internal.InternalArangoDBBuilder;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostHandler;
 import com.arangodb.internal.net.HostResolver;
+import com.arangodb.internal.net.JwtAuthentication;
 import com.arangodb.internal.util.ArangoDeserializerImpl;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializerImpl;
@@ -370,6 +371,19 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Whether or not to authenticate with a JSON Web Token instead of sending the credentials on every connect. The
+         * token is requested once from the server, shared by all connections and refreshed in the background before it
+         * expires.
+         *
+         * @param useJwt whether or not to use JWT authentication (default: {@code false})
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder useJwt(final Boolean useJwt) {
+            setUseJwt(useJwt);
+            return this;
+        }
+
         /**
          * Sets the chunk size when {@link Protocol#VST} is used.
          *
@@ -616,6 +630,30 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             return this;
         }
 
+        /**
+         * Generates a serializer and a deserializer for each of the given POJO types. The generated code accesses the
+         * fields through method handles resolved once per type instead of reflection per document. Field names and
+         * exclusions follow {@link com.arangodb.entity.DocumentField},
+         * {@link com.arangodb.velocypack.annotations.SerializedName} and
+         * {@link com.arangodb.velocypack.annotations.Expose}; custom annotations registered with
+         * {@link #annotationFieldNaming(Class, VPackAnnotationFieldNaming)} or
+         * {@link #annotationFieldFilter(Class, VPackAnnotationFieldFilter)} are not applied. The types need a
+         * no-argument constructor.
+         *
+         * <p>
+         * <strong>Attention:</strong>can not be used together with {@link #serializer(ArangoSerialization)}
+         * </p>
+         *
+         * @param types the POJO types
+         * @return {@link ArangoDBAsync.Builder}
+         */
+        public Builder registerGeneratedCodecs(final Class<?>... types) {
+            for (final Class<?> type : types) {
+                registerGeneratedCodec(type);
+            }
+            return this;
+        }
+
         /**
          * Register a {@link VPackModule} to be used within the internal serialization process.
          *
@@ -750,20 +788,22 @@ public interface ArangoDBAsync extends ArangoSerializationAccessor {
             final HostResolver hostResolver = createHostResolver(createHostList(max, connectionFactory), max,
                     connectionFactory);
             final HostHandler hostHandler = createHostHandler(hostResolver);
-            return new ArangoDBAsyncImpl(asyncBuilder(hostHandler), util, syncBuilder(hostHandler), hostResolver,
-                    new ArangoContext());
+            final JwtAuthentication jwt = Boolean.TRUE == useJwt && user != null
+                    ? new JwtAuthentication(user, password, ArangoDefaults.JWT_REFRESH_MARGIN) : null;
+            return new ArangoDBAsyncImpl(asyncBuilder(hostHandler, jwt), util, syncBuilder(hostHandler, jwt),
+                    hostResolver, new ArangoContext());
         }
 
-        private VstCommunicationAsync.Builder asyncBuilder(final HostHandler hostHandler) {
+        private VstCommunicationAsync.Builder asyncBuilder(final HostHandler hostHandler, final JwtAuthentication jwt) {
             return new VstCommunicationAsync.Builder(hostHandler).timeout(timeout).user(user).password(password)
                     .useSsl(useSsl).sslContext(sslContext).chunksize(chunksize).maxConnections(maxConnections)
-                    .connectionTtl(connectionTtl);
+                    .connectionTtl(connectionTtl).jwt(jwt);
         }
 
-        private VstCommunicationSync.Builder syncBuilder(final HostHandler hostHandler) {
+        private VstCommunicationSync.Builder syncBuilder(final HostHandler hostHandler, final JwtAuthentication jwt) {
             return new VstCommunicationSync.Builder(hostHandler).timeout(timeout).user(user).password(password)
                     .useSsl(useSsl).sslContext(sslContext).chunksize(chunksize).maxConnections(maxConnections)
-                    .connectionTtl(connectionTtl);
+                    .connectionTtl(connectionTtl).jwt(jwt);
         }
 
     }
@@ -35,6 +35,7 @@ import com.arangodb.entity.DocumentImportEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.MultiDocumentKeysEntity;
 import com.arangodb.entity.Permissions;
 import com.arangodb.entity.ShardEntity;
 import com.arangodb.internal.InternalArangoCollection;
@@ -102,6 +103,20 @@ implements ArangoCollectionAsync {
 				insertDocumentsResponseDeserializer(values, params));
 	}
 
+	@Override
+	public <T> CompletableFuture<MultiDocumentKeysEntity<T>> insertDocumentsCompact(
+			final Collection<T> values,
+			final DocumentCreateOptions options) {
+		final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
+		try {
+			checkCompactOptions(params.getSilent());
+		} catch (final ArangoDBException e) {
+			return failedFuture(e);
+		}
+		return this.executor.execute(insertDocumentsRequest(values, params),
+				multiDocumentKeysResponseDeserializer(values, params.getReturnNew(), params.getReturnOld()));
+	}
+
 	@Override
 	public CompletableFuture<DocumentImportEntity> importDocuments(final Collection<?> values) {
 		return importDocuments(values, new DocumentImportOptions());
@@ -197,6 +212,20 @@ implements ArangoCollectionAsync {
 				replaceDocumentsResponseDeserializer(values, params));
 	}
 
+	@Override
+	public <T> CompletableFuture<MultiDocumentKeysEntity<T>> replaceDocumentsCompact(
+			final Collection<T> values,
+			final DocumentReplaceOptions options) {
+		final DocumentReplaceOptions params = (options != null ? options : new DocumentReplaceOptions());
+		try {
+			checkCompactOptions(params.getSilent());
+		} catch (final ArangoDBException e) {
+			return failedFuture(e);
+		}
+		return this.executor.execute(replaceDocumentsRequest(values, params),
+				multiDocumentKeysResponseDeserializer(values, params.getReturnNew(), params.getReturnOld()));
+	}
+
 	@Override
 	public <T> CompletableFuture<DocumentUpdateEntity<T>> updateDocument(final String key, final T value) {
 		final DocumentUpdateOptions options = new DocumentUpdateOptions();
@@ -230,6 +259,20 @@ implements ArangoCollectionAsync {
 				updateDocumentsResponseDeserializer(values, params));
 	}
 
+	@Override
+	public <T> CompletableFuture<MultiDocumentKeysEntity<T>> updateDocumentsCompact(
+			final Collection<T> values,
+			final DocumentUpdateOptions options) {
+		final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
+		try {
+			checkCompactOptions(params.getSilent());
+		} catch (final ArangoDBException e) {
+			return failedFuture(e);
+		}
+		return this.executor.execute(updateDocumentsRequest(values, params),
+				multiDocumentKeysResponseDeserializer(values, params.getReturnNew(), params.getReturnOld()));
+	}
+
 	@Override
 	public CompletableFuture<DocumentDeleteEntity<Void>> deleteDocument(final String key) {
 		return this.executor.execute(deleteDocumentRequest(key, new DocumentDeleteOptions()),
@@ -429,4 +472,10 @@ implements ArangoCollectionAsync {
 	public CompletableFuture<Permissions> getPermissions(final String user) {
 		return this.executor.execute(getPermissionsRequest(user), getPermissionsResponseDeserialzer());
 	}
+
+	private static <T> CompletableFuture<T> failedFuture(final Throwable e) {
+		final CompletableFuture<T> future = new CompletableFuture<>();
+		future.completeExceptionally(e);
+		return future;
+	}
 }
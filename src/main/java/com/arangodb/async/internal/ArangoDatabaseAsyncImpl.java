@@ -26,6 +26,7 @@ import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.internal.cursor.PrefetchingCursorExecute;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
@@ -163,7 +164,7 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
         final Request request = queryRequest(query, bindVars, options);
         final HostHandle hostHandle = new HostHandle();
         final CompletableFuture<CursorEntity> execution = executor.execute(request, CursorEntity.class, hostHandle);
-        return execution.thenApply(result -> createCursor(result, type, options, hostHandle));
+        return execution.thenApply(result -> createCursor(result, query, type, options, hostHandle));
     }
 
     @Override
@@ -191,15 +192,16 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
     public <T> CompletableFuture<ArangoCursorAsync<T>> cursor(final String cursorId, final Class<T> type) {
         final HostHandle hostHandle = new HostHandle();
         final CompletableFuture<CursorEntity> execution = executor.execute(queryNextRequest(cursorId, null, null), CursorEntity.class, hostHandle);
-        return execution.thenApply(result -> createCursor(result, type, null, hostHandle));
+        return execution.thenApply(result -> createCursor(result, null, type, null, hostHandle));
     }
 
     private <T> ArangoCursorAsync<T> createCursor(
             final CursorEntity result,
+            final String query,
             final Class<T> type,
             final AqlQueryOptions options,
             final HostHandle hostHandle) {
-        return new ArangoCursorAsyncImpl<>(this, new ArangoCursorExecute() {
+        final ArangoCursorExecute execute = new ArangoCursorExecute() {
             @Override
             public CursorEntity next(final String id, Map<String, String> meta) {
                 final CompletableFuture<CursorEntity> result = executor.execute(queryNextRequest(id, options, meta),
@@ -219,7 +221,10 @@ public class ArangoDatabaseAsyncImpl extends InternalArangoDatabase<ArangoDBAsyn
                     throw new ArangoDBException(e);
                 }
             }
-        }, type, result);
+        };
+        final ArangoCursorExecute cursorExecute = PrefetchingCursorExecute.wrap(
+                executor.batchSizeTuner().wrap(execute, name(), query, result, options), result, options);
+        return new ArangoCursorAsyncImpl<>(this, cursorExecute, type, result);
     }
 
     @Override
@@ -23,6 +23,7 @@ package com.arangodb.async.internal.velocystream;
 import com.arangodb.ArangoDBException;
 import com.arangodb.entity.ErrorEntity;
 import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.net.JwtAuthentication;
 import com.arangodb.internal.velocystream.VstCommunication;
 import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.Message;
@@ -45,10 +46,14 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 
     private static final Logger LOGGER = LoggerFactory.getLogger(VstCommunicationAsync.class);
 
+    private final JwtAuthentication jwt;
+
     private VstCommunicationAsync(final HostHandler hostHandler, final Integer timeout, final String user,
                                   final String password, final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
-                                  final Integer chunksize, final Integer maxConnections, final Long connectionTtl) {
+                                  final Integer chunksize, final Integer maxConnections, final Long connectionTtl,
+                                  final JwtAuthentication jwt) {
         super(timeout, user, password, useSsl, sslContext, util, chunksize, hostHandler);
+        this.jwt = jwt;
     }
 
     @Override
@@ -99,6 +104,10 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
 
     @Override
     protected void authenticate(final VstConnectionAsync connection) {
+        if (jwt != null) {
+            authenticateJwt(connection);
+            return;
+        }
         Response response;
         try {
             response = execute(new AuthenticationRequest(user, password != null ? password : "", ENCRYPTION_PLAIN),
@@ -109,6 +118,36 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
         checkError(response);
     }
 
+    private void authenticateJwt(final VstConnectionAsync connection) {
+        // the token is shared by all connections, so only the first connect requests it
+        final JwtAuthentication.TokenRequester requester = request -> await(execute(request, connection));
+        final String token = jwt.getToken(requester);
+        try {
+            checkError(await(execute(new AuthenticationRequest(token), connection)));
+        } catch (final ArangoDBException e) {
+            if (e.getResponseCode() == null || e.getResponseCode() != 401) {
+                throw e;
+            }
+            // the token was rejected (e.g. after a server restart), retry once with a fresh one
+            jwt.invalidate(token);
+            checkError(await(execute(new AuthenticationRequest(jwt.getToken(requester)), connection)));
+        }
+    }
+
+    private static Response await(final CompletableFuture<Response> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof ArangoDBException) {
+                throw (ArangoDBException) e.getCause();
+            }
+            throw new ArangoDBException(e);
+        }
+    }
+
     public static class Builder {
 
         private final HostHandler hostHandler;
@@ -120,6 +159,7 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
         private SSLContext sslContext;
         private Integer chunksize;
         private Integer maxConnections;
+        private JwtAuthentication jwt;
 
         public Builder(final HostHandler hostHandler) {
             super();
@@ -166,9 +206,14 @@ public class VstCommunicationAsync extends VstCommunication<CompletableFuture<Re
             return this;
         }
 
+        public Builder jwt(final JwtAuthentication jwt) {
+            this.jwt = jwt;
+            return this;
+        }
+
         public VstCommunicationAsync build(final ArangoSerialization util) {
             return new VstCommunicationAsync(hostHandler, timeout, user, password, useSsl, sslContext, util, chunksize,
-                    maxConnections, connectionTtl);
+                    maxConnections, connectionTtl, jwt);
         }
     }
 
@@ -0,0 +1,158 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * One batch of a cursor over objects, decoded into one array per attribute, see
+ * {@link com.arangodb.ArangoCursor#columnBatches()}. Row {@code i} of the batch is at index {@code i} of every column.
+ */
+public class ColumnBatch {
+
+    public enum ColumnType {
+        /**
+         * integer values, see {@link Column#getLongs()}
+         */
+        LONG,
+        /**
+         * floating point values or a mix of integer and floating point values, see {@link Column#getDoubles()}
+         */
+        DOUBLE,
+        /**
+         * string values, see {@link Column#getStrings()}
+         */
+        STRING,
+        /**
+         * boolean values, see {@link Column#getBooleans()}
+         */
+        BOOLEAN,
+        /**
+         * only {@code null} or missing values
+         */
+        NULL
+    }
+
+    public static class Column {
+
+        private final ColumnType type;
+        private final Object values;
+        private final BitSet nulls;
+
+        /**
+         * @param type   the type of the values
+         * @param values {@code long[]}, {@code double[]}, {@code String[]} or {@code BitSet} depending on the type,
+         *               {@code null} for {@link ColumnType#NULL}
+         * @param nulls  the rows in which the attribute is {@code null} or missing
+         */
+        public Column(final ColumnType type, final Object values, final BitSet nulls) {
+            super();
+            this.type = type;
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        public ColumnType getType() {
+            return type;
+        }
+
+        /**
+         * @return the values of a {@link ColumnType#LONG} column, otherwise {@code null}
+         */
+        public long[] getLongs() {
+            return type == ColumnType.LONG ? (long[]) values : null;
+        }
+
+        /**
+         * @return the values of a {@link ColumnType#DOUBLE} column, otherwise {@code null}
+         */
+        public double[] getDoubles() {
+            return type == ColumnType.DOUBLE ? (double[]) values : null;
+        }
+
+        /**
+         * @return the values of a {@link ColumnType#STRING} column, otherwise {@code null}
+         */
+        public String[] getStrings() {
+            return type == ColumnType.STRING ? (String[]) values : null;
+        }
+
+        /**
+         * @return the rows of a {@link ColumnType#BOOLEAN} column which are {@code true}, otherwise {@code null}
+         */
+        public BitSet getBooleans() {
+            return type == ColumnType.BOOLEAN ? (BitSet) values : null;
+        }
+
+        /**
+         * @return the rows in which the attribute is {@code null} or missing
+         */
+        public BitSet getNulls() {
+            return nulls;
+        }
+
+        /**
+         * @param row index of the row
+         * @return whether the attribute is {@code null} or missing in the row
+         */
+        public boolean isNull(final int row) {
+            return nulls.get(row);
+        }
+    }
+
+    private final int size;
+    private final Map<String, Column> columns;
+
+    /**
+     * @param size    number of rows
+     * @param columns columns by attribute name
+     */
+    public ColumnBatch(final int size, final Map<String, Column> columns) {
+        super();
+        this.size = size;
+        this.columns = Collections.unmodifiableMap(columns);
+    }
+
+    /**
+     * @return number of rows
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return columns by attribute name, in order of first appearance
+     */
+    public Map<String, Column> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @param attribute name of the attribute
+     * @return column of the attribute or {@code null} if no row has the attribute
+     */
+    public Column getColumn(final String attribute) {
+        return columns.get(attribute);
+    }
+
+}
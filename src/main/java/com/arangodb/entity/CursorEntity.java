@@ -42,6 +42,21 @@ public class CursorEntity implements Entity, MetaAware {
 
     private Map<String, String> meta;
 
+    public CursorEntity() {
+        super();
+    }
+
+    public CursorEntity(final String id, final Integer count, final Extras extra, final Boolean cached,
+                        final Boolean hasMore, final VPackSlice result) {
+        super();
+        this.id = id;
+        this.count = count;
+        this.extra = extra;
+        this.cached = cached;
+        this.hasMore = hasMore;
+        this.result = result;
+    }
+
     public String getId() {
         return id;
     }
@@ -38,6 +38,10 @@ public class DocumentCreateEntity<T> extends DocumentEntity {
         super();
     }
 
+    public DocumentCreateEntity(final String key, final String id, final String rev) {
+        super(key, id, rev);
+    }
+
     /**
      * @return If the query parameter returnNew is true, then the complete new document is returned.
      */
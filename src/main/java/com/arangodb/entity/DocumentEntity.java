@@ -38,6 +38,13 @@ public class DocumentEntity implements Entity {
         super();
     }
 
+    protected DocumentEntity(final String key, final String id, final String rev) {
+        super();
+        this.key = key;
+        this.id = id;
+        this.rev = rev;
+    }
+
     public String getKey() {
         return key;
     }
@@ -42,6 +42,11 @@ public class DocumentUpdateEntity<T> extends DocumentEntity {
         super();
     }
 
+    public DocumentUpdateEntity(final String key, final String id, final String rev, final String oldRev) {
+        super(key, id, rev);
+        this.oldRev = oldRev;
+    }
+
     public String getOldRev() {
         return oldRev;
     }
@@ -38,6 +38,14 @@ public class ErrorEntity implements Serializable, Entity {
         super();
     }
 
+    public ErrorEntity(final String errorMessage, final String exception, final int code, final int errorNum) {
+        super();
+        this.errorMessage = errorMessage;
+        this.exception = exception;
+        this.code = code;
+        this.errorNum = errorNum;
+    }
+
     /**
      * @return a descriptive error message
      */
@@ -0,0 +1,148 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackDeserializationContext;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.exception.VPackException;
+
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+/**
+ * Read-only document which keeps the VelocyPack it was read from and decodes attributes only when they are accessed.
+ * Attributes are looked up with the index of the VelocyPack object, so reading a few attributes of a wide document
+ * does not decode the others.
+ * <p>
+ * It can be used as result type of cursors and of {@code getDocument}/{@code getDocuments}. It is backed by the
+ * response buffer, which stays referenced as long as the document is.
+ */
+public class LazyDocument {
+
+    private final VPackSlice vpack;
+    private final VPackDeserializationContext context;
+
+    public LazyDocument(final VPackSlice vpack, final VPackDeserializationContext context) {
+        super();
+        this.vpack = vpack;
+        this.context = context;
+    }
+
+    /**
+     * @return the VelocyPack of the whole document
+     */
+    public VPackSlice getSlice() {
+        return vpack;
+    }
+
+    public String getId() {
+        return getString(DocumentField.Type.ID.getSerializeName());
+    }
+
+    public String getKey() {
+        return getString(DocumentField.Type.KEY.getSerializeName());
+    }
+
+    public String getRevision() {
+        return getString(DocumentField.Type.REV.getSerializeName());
+    }
+
+    public String getFrom() {
+        return getString(DocumentField.Type.FROM.getSerializeName());
+    }
+
+    public String getTo() {
+        return getString(DocumentField.Type.TO.getSerializeName());
+    }
+
+    /**
+     * @param key name of the attribute
+     * @return whether or not the document contains the attribute
+     */
+    public boolean containsAttribute(final String key) {
+        return !vpack.get(key).isNone();
+    }
+
+    /**
+     * @return names of all attributes in the order they are stored, including system attributes
+     */
+    public Set<String> getAttributeNames() {
+        final Set<String> names = new LinkedHashSet<>();
+        for (final Iterator<Entry<String, VPackSlice>> iterator = vpack.objectIterator(); iterator.hasNext(); ) {
+            names.add(iterator.next().getKey());
+        }
+        return names;
+    }
+
+    /**
+     * @param key name of the attribute
+     * @return the decoded attribute, or {@code null} if the document does not contain it
+     */
+    public Object getAttribute(final String key) {
+        return getAttribute(key, Object.class);
+    }
+
+    /**
+     * @param key  name of the attribute
+     * @param type type to decode the attribute to
+     * @return the decoded attribute, or {@code null} if the document does not contain it
+     */
+    public <T> T getAttribute(final String key, final Type type) {
+        final VPackSlice value = vpack.get(key);
+        if (value.isNone() || value.isNull()) {
+            return null;
+        }
+        try {
+            return context.deserialize(value, type);
+        } catch (final VPackException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    /**
+     * @return a {@link BaseDocument} with all attributes decoded
+     */
+    @SuppressWarnings("unchecked")
+    public BaseDocument toBaseDocument() {
+        try {
+            return new BaseDocument((Map<String, Object>) context.deserialize(vpack, Map.class));
+        } catch (final VPackException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private String getString(final String key) {
+        final VPackSlice value = vpack.get(key);
+        return value.isString() ? value.getAsString() : null;
+    }
+
+    @Override
+    public String toString() {
+        return "LazyDocument [documentHandle=" + getId() + ", documentKey=" + getKey() + ", documentRevision="
+                + getRevision() + "]";
+    }
+
+}
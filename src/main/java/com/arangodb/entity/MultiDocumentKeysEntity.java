@@ -0,0 +1,137 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+import java.util.Arrays;
+
+/**
+ * Compact result of a multi-document operation. Keys and revisions are kept in arrays parallel to the processed
+ * documents, errors are kept only for the positions which failed.
+ *
+ * @param <T> type of the returned new and old documents
+ */
+public class MultiDocumentKeysEntity<T> implements Entity {
+
+    private static final int[] NO_INDEXES = new int[0];
+    private static final ErrorEntity[] NO_ERRORS = new ErrorEntity[0];
+
+    private final String[] keys;
+    private final String[] revs;
+    private final int[] errorIndexes;
+    private final ErrorEntity[] errors;
+    private final Object[] newDocuments;
+    private final Object[] oldDocuments;
+
+    public MultiDocumentKeysEntity(final String[] keys, final String[] revs, final int[] errorIndexes,
+                                   final ErrorEntity[] errors, final Object[] newDocuments,
+                                   final Object[] oldDocuments) {
+        super();
+        this.keys = keys;
+        this.revs = revs;
+        this.errorIndexes = errorIndexes != null ? errorIndexes : NO_INDEXES;
+        this.errors = errors != null ? errors : NO_ERRORS;
+        this.newDocuments = newDocuments;
+        this.oldDocuments = oldDocuments;
+    }
+
+    /**
+     * @return number of processed documents, including the failed ones
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * @param index position of the document in the request
+     * @return the key of the document, or {@code null} if processing it failed
+     */
+    public String getKey(final int index) {
+        return keys[index];
+    }
+
+    /**
+     * @param index position of the document in the request
+     * @return the revision of the document, or {@code null} if processing it failed
+     */
+    public String getRev(final int index) {
+        return revs[index];
+    }
+
+    /**
+     * @return the keys of all documents, {@code null} at positions which failed
+     */
+    public String[] getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return the revisions of all documents, {@code null} at positions which failed
+     */
+    public String[] getRevs() {
+        return revs;
+    }
+
+    public boolean hasErrors() {
+        return errorIndexes.length > 0;
+    }
+
+    /**
+     * @return the ascending positions of the documents which failed, parallel to {@link #getErrors()}
+     */
+    public int[] getErrorIndexes() {
+        return errorIndexes;
+    }
+
+    /**
+     * @return the errors, parallel to {@link #getErrorIndexes()}
+     */
+    public ErrorEntity[] getErrors() {
+        return errors;
+    }
+
+    /**
+     * @param index position of the document in the request
+     * @return the error for the document, or {@code null} if it was processed successfully
+     */
+    public ErrorEntity getError(final int index) {
+        final int i = Arrays.binarySearch(errorIndexes, index);
+        return i >= 0 ? errors[i] : null;
+    }
+
+    /**
+     * @param index position of the document in the request
+     * @return the new document, if {@code returnNew} was requested
+     */
+    @SuppressWarnings("unchecked")
+    public T getNew(final int index) {
+        return newDocuments != null ? (T) newDocuments[index] : null;
+    }
+
+    /**
+     * @param index position of the document in the request
+     * @return the old document, if {@code returnOld} was requested
+     */
+    @SuppressWarnings("unchecked")
+    public T getOld(final int index) {
+        return oldDocuments != null ? (T) oldDocuments[index] : null;
+    }
+
+}
@@ -20,12 +20,31 @@
 
 package com.arangodb.internal;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.arangodb.ArangoCollection;
+import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoDBException;
 import com.arangodb.entity.CollectionEntity;
 import com.arangodb.entity.CollectionPropertiesEntity;
@@ -36,9 +55,13 @@ import com.arangodb.entity.DocumentImportEntity;
 import com.arangodb.entity.DocumentUpdateEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.MultiDocumentKeysEntity;
 import com.arangodb.entity.Permissions;
 import com.arangodb.entity.ShardEntity;
+import com.arangodb.internal.cursor.ParallelScan;
 import com.arangodb.internal.util.DocumentUtil;
+import com.arangodb.internal.util.JsonLinesReader;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionCountOptions;
 import com.arangodb.model.CollectionCreateOptions;
 import com.arangodb.model.CollectionPropertiesOptions;
@@ -66,6 +89,8 @@ public class ArangoCollectionImpl extends InternalArangoCollection<ArangoDBImpl,
 implements ArangoCollection {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(ArangoCollection.class);
+	private static final String SCAN_QUERY = "FOR d IN @@collection RETURN d";
+	private static final Pattern IMPORT_DETAIL_POSITION = Pattern.compile("(at position )(\\d+)");
 
 	protected ArangoCollectionImpl(final ArangoDatabaseImpl db, final String name) {
 		super(db, name);
@@ -97,6 +122,15 @@ implements ArangoCollection {
 				.execute(insertDocumentsRequest(values, params), insertDocumentsResponseDeserializer(values, params));
 	}
 
+	@Override
+	public <T> MultiDocumentKeysEntity<T> insertDocumentsCompact(
+			final Collection<T> values, final DocumentCreateOptions options) throws ArangoDBException {
+		final DocumentCreateOptions params = (options != null ? options : new DocumentCreateOptions());
+		checkCompactOptions(params.getSilent());
+		return this.executor.execute(insertDocumentsRequest(values, params),
+				multiDocumentKeysResponseDeserializer(values, params.getReturnNew(), params.getReturnOld()));
+	}
+
 	@Override
 	public DocumentImportEntity importDocuments(final Collection<?> values) throws ArangoDBException {
 		return importDocuments(values, new DocumentImportOptions());
@@ -126,6 +160,152 @@ implements ArangoCollection {
 		return this.executor.execute(importDocumentsRequest(values, options), DocumentImportEntity.class);
 	}
 
+	@Override
+	public DocumentImportEntity importDocuments(final InputStream values, final DocumentImportOptions options)
+			throws ArangoDBException {
+		final DocumentImportOptions params = options != null ? options : new DocumentImportOptions();
+		if (Boolean.TRUE == params.getComplete()) {
+			throw new ArangoDBException("The option complete is not supported by streamed imports");
+		}
+		final JsonLinesReader reader = new JsonLinesReader(values,
+				params.getBatchSize() != null ? params.getBatchSize() : ArangoDefaults.DEFAULT_IMPORT_BATCH_SIZE);
+		final int parallelism = params.getParallelism() != null ? Math.max(1, params.getParallelism())
+				: ArangoDefaults.DEFAULT_IMPORT_PARALLELISM;
+		final DocumentImportEntity result = new DocumentImportEntity();
+		VPackSlice batch = reader.next();
+		if (batch == null) {
+			return result;
+		}
+		// the first batch is finished before any other is sent, it empties the collection if overwrite is set
+		addImportResult(result, importBatch(batch, params, 0));
+		int offset = batch.getLength();
+		if (parallelism == 1) {
+			for (batch = reader.next(); batch != null; batch = reader.next()) {
+				try {
+					addImportResult(result, importBatch(batch, params, offset));
+				} catch (final ArangoDBException e) {
+					throw importFailure(result, e);
+				}
+				offset += batch.getLength();
+			}
+			return result;
+		}
+		final ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+		final CompletionService<DocumentImportEntity> batches = new ExecutorCompletionService<>(pool);
+		Throwable failure = null;
+		int pending = 0;
+		try {
+			for (batch = reader.next(); batch != null; batch = reader.next()) {
+				// waits for a free slot and collects the batches finished in the meantime, reading stops at a failure
+				for (Future<DocumentImportEntity> done = pending == parallelism ? batches.take() : batches.poll();
+					 done != null && failure == null; done = batches.poll()) {
+					failure = addImportResult(result, done);
+					pending--;
+				}
+				if (failure != null) {
+					break;
+				}
+				final VPackSlice next = batch;
+				final int nextOffset = offset;
+				batches.submit(() -> importBatch(next, params, nextOffset));
+				pending++;
+				offset += batch.getLength();
+			}
+			// the batches still running are already sent, their results are kept even after a failure
+			for (; pending > 0; pending--) {
+				final Throwable e = addImportResult(result, batches.take());
+				if (failure == null) {
+					failure = e;
+				} else if (e != null) {
+					failure.addSuppressed(e);
+				}
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ArangoDBException(e);
+		} finally {
+			pool.shutdownNow();
+		}
+		if (failure != null) {
+			throw importFailure(result, failure);
+		}
+		return result;
+	}
+
+	@Override
+	public DocumentImportEntity importDocuments(final Path values, final DocumentImportOptions options)
+			throws ArangoDBException {
+		try (final InputStream in = Files.newInputStream(values)) {
+			return importDocuments(in, options);
+		} catch (final IOException e) {
+			throw new ArangoDBException(e);
+		}
+	}
+
+	/**
+	 * @param offset number of documents in the preceding batches, the positions in the error details of the batch are
+	 *               shifted by it
+	 */
+	private DocumentImportEntity importBatch(
+			final VPackSlice batch, final DocumentImportOptions options, final int offset) {
+		final DocumentImportEntity result = this.executor
+				.execute(importDocumentsBatchRequest(batch, options, offset == 0), DocumentImportEntity.class);
+		if (offset > 0 && result.getDetails() != null) {
+			final Collection<String> details = new ArrayList<>(result.getDetails().size());
+			for (final String detail : result.getDetails()) {
+				final Matcher matcher = IMPORT_DETAIL_POSITION.matcher(detail);
+				if (matcher.lookingAt()) {
+					final long position = Long.parseLong(matcher.group(2)) + offset;
+					details.add(matcher.group(1) + position + detail.substring(matcher.end()));
+				} else {
+					details.add(detail);
+				}
+			}
+			result.setDetails(details);
+		}
+		return result;
+	}
+
+	private static void addImportResult(final DocumentImportEntity result, final DocumentImportEntity batch) {
+		result.setCreated(sum(result.getCreated(), batch.getCreated()));
+		result.setErrors(sum(result.getErrors(), batch.getErrors()));
+		result.setEmpty(sum(result.getEmpty(), batch.getEmpty()));
+		result.setUpdated(sum(result.getUpdated(), batch.getUpdated()));
+		result.setIgnored(sum(result.getIgnored(), batch.getIgnored()));
+		if (batch.getDetails() != null) {
+			result.getDetails().addAll(batch.getDetails());
+		}
+	}
+
+	/**
+	 * @return the error of the batch, or {@code null} if its result was added
+	 */
+	private static Throwable addImportResult(final DocumentImportEntity result, final Future<DocumentImportEntity> batch)
+			throws InterruptedException {
+		try {
+			addImportResult(result, batch.get());
+			return null;
+		} catch (final ExecutionException e) {
+			return e.getCause();
+		}
+	}
+
+	/**
+	 * @param result the results of the batches imported before the failure
+	 */
+	private static ArangoDBException importFailure(final DocumentImportEntity result, final Throwable cause) {
+		final ArangoDBException exception = new ArangoDBException(String.format(
+			"Streamed import stopped at a failed batch, the preceding batches created %s, updated %s and ignored %s "
+					+ "documents with %s errors: %s",
+			result.getCreated(), result.getUpdated(), result.getIgnored(), result.getErrors(), cause.getMessage()));
+		exception.initCause(cause);
+		return exception;
+	}
+
+	private static Integer sum(final Integer a, final Integer b) {
+		return a == null ? b : b == null ? a : a + b;
+	}
+
 	@Override
 	public <T> T getDocument(final String key, final Class<T> type) throws ArangoDBException {
 		return getDocument(key, type, new DocumentReadOptions());
@@ -194,6 +374,15 @@ implements ArangoCollection {
 				.execute(replaceDocumentsRequest(values, params), replaceDocumentsResponseDeserializer(values, params));
 	}
 
+	@Override
+	public <T> MultiDocumentKeysEntity<T> replaceDocumentsCompact(
+			final Collection<T> values, final DocumentReplaceOptions options) throws ArangoDBException {
+		final DocumentReplaceOptions params = (options != null ? options : new DocumentReplaceOptions());
+		checkCompactOptions(params.getSilent());
+		return this.executor.execute(replaceDocumentsRequest(values, params),
+				multiDocumentKeysResponseDeserializer(values, params.getReturnNew(), params.getReturnOld()));
+	}
+
 	@Override
 	public <T> DocumentUpdateEntity<T> updateDocument(final String key, final T value) throws ArangoDBException {
 		return updateDocument(key, value, new DocumentUpdateOptions());
@@ -220,6 +409,15 @@ implements ArangoCollection {
 				.execute(updateDocumentsRequest(values, params), updateDocumentsResponseDeserializer(values, params));
 	}
 
+	@Override
+	public <T> MultiDocumentKeysEntity<T> updateDocumentsCompact(
+			final Collection<T> values, final DocumentUpdateOptions options) throws ArangoDBException {
+		final DocumentUpdateOptions params = (options != null ? options : new DocumentUpdateOptions());
+		checkCompactOptions(params.getSilent());
+		return this.executor.execute(updateDocumentsRequest(values, params),
+				multiDocumentKeysResponseDeserializer(values, params.getReturnNew(), params.getReturnOld()));
+	}
+
 	@Override
 	public DocumentDeleteEntity<Void> deleteDocument(final String key) throws ArangoDBException {
 		return this.executor.execute(deleteDocumentRequest(key, new DocumentDeleteOptions()),
@@ -413,6 +611,21 @@ implements ArangoCollection {
 		return this.executor.execute(responsibleShardRequest(value), ShardEntity.class);
 	}
 
+	@Override
+	public <T> Stream<T> parallelScan(final Class<T> type, final int parallelism) throws ArangoDBException {
+		final Map<String, Object> bindVars = Collections.singletonMap("@collection", name());
+		final List<Supplier<ArangoCursor<T>>> cursors = new ArrayList<>();
+		if (getProperties().getNumberOfShards() == null) {
+			cursors.add(() -> db().query(SCAN_QUERY, bindVars, new AqlQueryOptions().stream(true), type));
+		} else {
+			for (final String shard : executor.execute(getShardsRequest(), getShardsResponseDeserializer())) {
+				cursors.add(() -> db().query(SCAN_QUERY, bindVars, new AqlQueryOptions().stream(true).shardIds(shard),
+					type));
+			}
+		}
+		return ParallelScan.stream(cursors, parallelism);
+	}
+
 	@Override
 	public CollectionRevisionEntity getRevision() throws ArangoDBException {
 		return this.executor.execute(getRevisionRequest(), CollectionRevisionEntity.class);
@@ -59,10 +59,11 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
 
     private ArangoCursorInitializer cursorInitializer;
     private final CommunicationProtocol cp;
+    private final QueryResultCache queryResultCache;
 
     public ArangoDBImpl(final VstCommunicationSync.Builder vstBuilder, final HttpCommunication.Builder httpBuilder,
                         final ArangoSerializationFactory util, final Protocol protocol, final HostResolver hostResolver,
-                        final ArangoContext context) {
+                        final ArangoContext context, final QueryResultCache queryResultCache) {
 
         super(new ArangoExecutorSync(
                         createProtocol(vstBuilder, httpBuilder, util.get(Serializer.INTERNAL), protocol),
@@ -77,6 +78,7 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
                 util.get(Serializer.INTERNAL),
                 protocol);
 
+        this.queryResultCache = queryResultCache;
         hostResolver.init(this.executor(), util());
 
         LOGGER.debug("ArangoDB Client is ready to use");
@@ -127,7 +129,8 @@ public class ArangoDBImpl extends InternalArangoDB<ArangoExecutorSync> implement
 
     @Override
     public ArangoDatabase db(final String name) {
-        return new ArangoDatabaseImpl(this, name).setCursorInitializer(cursorInitializer);
+        return new ArangoDatabaseImpl(this, name).setCursorInitializer(cursorInitializer)
+                .setQueryResultCache(queryResultCache);
     }
 
     @Override
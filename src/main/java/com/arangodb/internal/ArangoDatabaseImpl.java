@@ -24,6 +24,7 @@ import com.arangodb.*;
 import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.AnalyzerEntity;
 import com.arangodb.internal.cursor.ArangoCursorImpl;
+import com.arangodb.internal.cursor.PrefetchingCursorExecute;
 import com.arangodb.internal.net.HostHandle;
 import com.arangodb.internal.util.DocumentUtil;
 import com.arangodb.model.*;
@@ -35,6 +36,7 @@ import com.arangodb.velocystream.Request;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -45,6 +47,7 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
         implements ArangoDatabase {
 
     private ArangoCursorInitializer cursorInitializer;
+    private QueryResultCache queryResultCache;
 
     protected ArangoDatabaseImpl(final ArangoDBImpl arangoDB, final String name) {
         super(arangoDB, name);
@@ -165,14 +168,47 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
             final String query, final Map<String, Object> bindVars, final AqlQueryOptions options, final Class<T> type)
             throws ArangoDBException {
 
-        final Request request = queryRequest(query, bindVars, options);
+        return query(queryRequest(query, bindVars, options), query, options, type);
+
+    }
+
+    <T> ArangoCursor<T> query(
+            final Request request, final String query, final AqlQueryOptions options, final Class<T> type)
+            throws ArangoDBException {
+
         final HostHandle hostHandle = new HostHandle();
+        if (queryResultCache != null && options != null && Boolean.TRUE == options.getClientCache()) {
+            return cachedQuery(query, request, options, type, hostHandle);
+        }
         final CursorEntity result = executor.execute(request, CursorEntity.class, hostHandle);
 
-        return createCursor(result, type, options, hostHandle);
+        return createCursor(result, query, type, options, hostHandle);
 
     }
 
+    private <T> ArangoCursor<T> cachedQuery(
+            final String query,
+            final Request request,
+            final AqlQueryOptions options,
+            final Class<T> type,
+            final HostHandle hostHandle) {
+        final QueryResultCache.Key key = queryResultCache.key(name(), query, request.getBody(),
+                request.getHeaderParam());
+        final Map<String, String> revisions = new HashMap<>();
+        if (options.getClientCacheCollections() != null) {
+            for (final String collection : options.getClientCacheCollections()) {
+                revisions.put(collection, collection(collection).getRevision().getRevision());
+            }
+        }
+        final CursorEntity cached = queryResultCache.get(key, revisions);
+        if (cached != null) {
+            return createCursor(cached, null, type, options, hostHandle);
+        }
+        final CursorEntity result = executor.execute(request, CursorEntity.class, hostHandle);
+        queryResultCache.put(key, result, revisions);
+        return createCursor(result, query, type, options, hostHandle);
+    }
+
     @Override
     public <T> ArangoCursor<T> query(
             final String query, final Map<String, Object> bindVars, final Class<T> type) throws ArangoDBException {
@@ -190,16 +226,23 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
         return query(query, null, null, type);
     }
 
+    @Override
+    public <T> PreparedQuery<T> prepareQuery(final String query, final AqlQueryOptions options, final Class<T> type)
+            throws ArangoDBException {
+        return new PreparedQueryImpl<>(this, query, options != null ? options : new AqlQueryOptions(), type);
+    }
+
     @Override
     public <T> ArangoCursor<T> cursor(final String cursorId, final Class<T> type) throws ArangoDBException {
         final HostHandle hostHandle = new HostHandle();
         final CursorEntity result = executor
                 .execute(queryNextRequest(cursorId, null, null), CursorEntity.class, hostHandle);
-        return createCursor(result, type, null, hostHandle);
+        return createCursor(result, null, type, null, hostHandle);
     }
 
     private <T> ArangoCursor<T> createCursor(
             final CursorEntity result,
+            final String query,
             final Class<T> type,
             final AqlQueryOptions options,
             final HostHandle hostHandle) {
@@ -216,9 +259,11 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
             }
         };
 
+        final ArangoCursorExecute cursorExecute = PrefetchingCursorExecute.wrap(
+                executor.batchSizeTuner().wrap(execute, name(), query, result, options), result, options);
         return cursorInitializer != null ?
-                cursorInitializer.createInstance(this, execute, type, result) :
-                new ArangoCursorImpl<>(this, execute, type, result);
+                cursorInitializer.createInstance(this, cursorExecute, type, result) :
+                new ArangoCursorImpl<>(this, cursorExecute, type, result);
     }
 
     @Override
@@ -392,6 +437,11 @@ public class ArangoDatabaseImpl extends InternalArangoDatabase<ArangoDBImpl, Ara
         return this;
     }
 
+    protected ArangoDatabaseImpl setQueryResultCache(final QueryResultCache queryResultCache) {
+        this.queryResultCache = queryResultCache;
+        return this;
+    }
+
     @Override
     public ArangoRoute route(final String... path) {
         return new ArangoRouteImpl(this, createPath(path), Collections.emptyMap());
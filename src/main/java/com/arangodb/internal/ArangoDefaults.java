@@ -46,6 +46,15 @@ public final class ArangoDefaults {
     public static final int MAX_CONNECTIONS_VST_DEFAULT = 1;
     public static final Integer CONNECTION_TTL_VST_DEFAULT = null;
     public static final int MAX_CONNECTIONS_HTTP_DEFAULT = 20;
+    public static final int MAX_CONNECTIONS_HTTP2_DEFAULT = 1;
+    public static final boolean DEFAULT_ACCEPT_COMPRESSION = true;
+    public static final Integer DEFAULT_COMPRESSION_THRESHOLD = null;
+    public static final boolean DEFAULT_USE_JWT = false;
+    public static final long JWT_REFRESH_MARGIN = 60000L;
+    public static final int DEFAULT_IMPORT_BATCH_SIZE = 8 * 1024 * 1024;
+    public static final int DEFAULT_IMPORT_PARALLELISM = 1;
+    public static final long DEFAULT_QUERY_RESULT_CACHE_TTL = 60000L;
+    public static final long DEFAULT_QUERY_RESULT_CACHE_MAX_BYTES = 64L * 1024 * 1024;
     public static final Protocol DEFAULT_NETWORK_PROTOCOL = Protocol.VST;
     public static final boolean DEFAULT_ACQUIRE_HOST_LIST = false;
     public static final int DEFAULT_ACQUIRE_HOST_LIST_INTERVAL = 60 * 60 * 1000; // hour
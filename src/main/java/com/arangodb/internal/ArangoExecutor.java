@@ -21,6 +21,7 @@
 package com.arangodb.internal;
 
 import com.arangodb.entity.Entity;
+import com.arangodb.internal.cursor.BatchSizeTuner;
 import com.arangodb.internal.util.ArangoSerializationFactory;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.velocypack.exception.VPackException;
@@ -46,8 +47,11 @@ public abstract class ArangoExecutor {
         }
     }
 
+    private static final int MAX_TUNED_QUERIES = 1000;
+
     private final DocumentCache documentCache;
     private final ArangoSerializationFactory util;
+    private final BatchSizeTuner batchSizeTuner = new BatchSizeTuner(MAX_TUNED_QUERIES);
 
     protected ArangoExecutor(final ArangoSerializationFactory util, final DocumentCache documentCache) {
         super();
@@ -59,6 +63,10 @@ public abstract class ArangoExecutor {
         return documentCache;
     }
 
+    public BatchSizeTuner batchSizeTuner() {
+        return batchSizeTuner;
+    }
+
     public interface ResponseDeserializer<T> {
         T deserialize(Response response) throws VPackException;
     }
@@ -24,81 +24,138 @@ import com.arangodb.ArangoDBException;
 import com.arangodb.entity.DocumentField;
 import com.arangodb.entity.DocumentField.Type;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.*;
 import java.util.Map.Entry;
 
 /**
+ * Sets the {@link DocumentField} annotated fields of documents. The setters of every class are looked up once and
+ * kept in a {@link ClassValue}, so the cache can be shared between threads without locking.
+ *
  * @author Mark Vollmary
  */
 public class DocumentCache {
 
-    private final Map<Class<?>, Map<DocumentField.Type, Field>> cache;
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, String.class);
+    private static final MethodHandle[] NO_SETTERS = new MethodHandle[DocumentField.Type.values().length];
+
+    private final ClassValue<MethodHandle[]> cache;
 
     public DocumentCache() {
         super();
-        cache = new HashMap<>();
+        cache = new ClassValue<MethodHandle[]>() {
+            @Override
+            protected MethodHandle[] computeValue(final Class<?> type) {
+                return isTypeRestricted(type) ? NO_SETTERS : createSetters(type);
+            }
+        };
     }
 
     public void setValues(final Object doc, final Map<DocumentField.Type, String> values) throws ArangoDBException {
-        try {
-            final Map<DocumentField.Type, Field> fields = getFields(doc.getClass());
-            for (final Entry<DocumentField.Type, String> value : values.entrySet()) {
-                final Field field = fields.get(value.getKey());
-                if (field != null) {
-                    field.set(doc, value.getValue());
-                }
-            }
-        } catch (final IllegalArgumentException | IllegalAccessException e) {
-            throw new ArangoDBException(e);
+        final MethodHandle[] setters = cache.get(doc.getClass());
+        for (final Entry<DocumentField.Type, String> value : values.entrySet()) {
+            set(setters[value.getKey().ordinal()], doc, value.getValue());
         }
     }
 
-    private Map<DocumentField.Type, Field> getFields(final Class<?> clazz) {
-        Map<DocumentField.Type, Field> fields = new HashMap<>();
-        if (!isTypeRestricted(clazz)) {
-            fields = cache.get(clazz);
-            if (fields == null) {
-                fields = createFields(clazz);
-                cache.put(clazz, fields);
-            }
+    /**
+     * Sets the id, key and revision fields of the given document. {@code null} values leave the corresponding field
+     * unchanged.
+     *
+     * @param doc the document
+     * @param id  the document id
+     * @param key the document key
+     * @param rev the document revision
+     * @throws ArangoDBException if a field could not be set
+     */
+    public void setKeyIdRev(final Object doc, final String id, final String key, final String rev)
+            throws ArangoDBException {
+        final MethodHandle[] setters = cache.get(doc.getClass());
+        if (id != null) {
+            set(setters[DocumentField.Type.ID.ordinal()], doc, id);
+        }
+        if (key != null) {
+            set(setters[DocumentField.Type.KEY.ordinal()], doc, key);
+        }
+        if (rev != null) {
+            set(setters[DocumentField.Type.REV.ordinal()], doc, rev);
+        }
+    }
+
+    private static void set(final MethodHandle setter, final Object doc, final String value) {
+        if (setter == null) {
+            return;
+        }
+        try {
+            setter.invokeExact(doc, value);
+        } catch (final Throwable e) {
+            throw new ArangoDBException(e);
         }
-        return fields;
     }
 
-    private boolean isTypeRestricted(final Class<?> type) {
+    private static boolean isTypeRestricted(final Class<?> type) {
         return Map.class.isAssignableFrom(type) || Collection.class.isAssignableFrom(type);
     }
 
-    private Map<DocumentField.Type, Field> createFields(final Class<?> clazz) {
-        final Map<DocumentField.Type, Field> fields = new HashMap<>();
+    private static MethodHandle[] createSetters(final Class<?> clazz) {
+        final MethodHandle[] setters = new MethodHandle[DocumentField.Type.values().length];
         Class<?> tmp = clazz;
         final Collection<DocumentField.Type> values = new ArrayList<>(
                 Arrays.asList(DocumentField.Type.values()));
         while (tmp != null && tmp != Object.class && values.size() > 0) {
             final Field[] declaredFields = tmp.getDeclaredFields();
             for (int i = 0; i < declaredFields.length && values.size() > 0; i++) {
-                findAnnotation(values, fields, declaredFields[i]);
+                findAnnotation(values, setters, declaredFields[i]);
             }
             tmp = tmp.getSuperclass();
         }
-        return fields;
+        return setters;
     }
 
-    private void findAnnotation(
+    /**
+     * Fields which are not of type {@link String} (e.g. {@code Object} or a custom id type) are skipped, they are
+     * left to the serializer.
+     */
+    private static void findAnnotation(
             final Collection<Type> values,
-            final Map<DocumentField.Type, Field> fields,
+            final MethodHandle[] setters,
             final Field field) {
         final DocumentField annotation = field.getAnnotation(DocumentField.class);
         if (annotation != null && !field.isSynthetic() && !Modifier.isStatic(field.getModifiers())
                 && String.class.isAssignableFrom(field.getType())) {
             final Type value = annotation.value();
             if (values.contains(value)) {
-                field.setAccessible(true);
-                fields.put(value, field);
+                try {
+                    field.setAccessible(true);
+                    setters[value.ordinal()] = setter(field).asType(SETTER_TYPE);
+                } catch (final RuntimeException e) {
+                    final ArangoDBException exception = new ArangoDBException(String.format(
+                            "Cannot set @DocumentField(%s) field %s of %s", value, field.getName(),
+                            field.getDeclaringClass().getName()));
+                    exception.initCause(e);
+                    throw exception;
+                }
                 values.remove(value);
             }
         }
     }
+
+    private static MethodHandle setter(final Field field) {
+        try {
+            return LOOKUP.unreflectSetter(field);
+        } catch (final IllegalAccessException e) {
+            // final fields can only be written through reflection
+            try {
+                return LOOKUP.findVirtual(Field.class, "set",
+                        MethodType.methodType(void.class, Object.class, Object.class)).bindTo(field);
+            } catch (final NoSuchMethodException | IllegalAccessException e1) {
+                throw new ArangoDBException(e1);
+            }
+        }
+    }
 }
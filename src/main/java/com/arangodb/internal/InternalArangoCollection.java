@@ -21,10 +21,9 @@
 package com.arangodb.internal;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Iterator;
-import java.util.Map;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.entity.DocumentCreateEntity;
@@ -34,10 +33,12 @@ import com.arangodb.entity.DocumentUpdateEntity;
 import com.arangodb.entity.ErrorEntity;
 import com.arangodb.entity.IndexEntity;
 import com.arangodb.entity.MultiDocumentEntity;
+import com.arangodb.entity.MultiDocumentKeysEntity;
 import com.arangodb.entity.Permissions;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
 import com.arangodb.internal.util.DocumentUtil;
+import com.arangodb.internal.util.RawPassthroughSerialization;
 import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.model.CollectionCountOptions;
 import com.arangodb.model.CollectionPropertiesOptions;
@@ -59,7 +60,9 @@ import com.arangodb.model.PersistentIndexOptions;
 import com.arangodb.model.SkiplistIndexOptions;
 import com.arangodb.model.TtlIndexOptions;
 import com.arangodb.model.UserAccessOptions;
+import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer;
+import com.arangodb.util.RawJson;
 import com.arangodb.velocypack.Type;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
@@ -88,6 +91,9 @@ extends ArangoExecuteable<E> {
 	private static final String OVERWRITE = "overwrite";
 	private static final String OLD = "old";
 	private static final String SILENT = "silent";
+	private static final String ID = DocumentField.Type.ID.getSerializeName();
+	private static final String KEY = DocumentField.Type.KEY.getSerializeName();
+	private static final String REV = DocumentField.Type.REV.getSerializeName();
 
 	private static final String TRANSACTION_ID = "x-arango-trx-id";
 
@@ -117,7 +123,7 @@ extends ArangoExecuteable<E> {
 		request.putQueryParam(SILENT, params.getSilent());
 		request.putQueryParam(OVERWRITE, params.getOverwrite());
 		request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
-		request.setBody(util(Serializer.CUSTOM).serialize(value));
+		setDocumentBody(request, value, null);
 		return request;
 	}
 
@@ -135,11 +141,7 @@ extends ArangoExecuteable<E> {
 				doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, value.getClass()));
 			}
 			if (options == null || Boolean.TRUE != options.getSilent()) {
-				final Map<DocumentField.Type, String> values = new HashMap<>();
-				values.put(DocumentField.Type.ID, doc.getId());
-				values.put(DocumentField.Type.KEY, doc.getKey());
-				values.put(DocumentField.Type.REV, doc.getRev());
-				this.executor.documentCache().setValues(value, values);
+				this.executor.documentCache().setKeyIdRev(value, doc.getId(), doc.getKey(), doc.getRev());
 			}
 			return doc;
 		};
@@ -153,8 +155,8 @@ extends ArangoExecuteable<E> {
 		request.putQueryParam(SILENT, params.getSilent());
 		request.putQueryParam(OVERWRITE, params.getOverwrite());
 		request.putHeaderParam(TRANSACTION_ID, params.getStreamTransactionId());
-		request.setBody(util(Serializer.CUSTOM)
-				.serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+		setDocumentBody(request, values,
+				new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true));
 		return request;
 	}
 
@@ -202,6 +204,76 @@ extends ArangoExecuteable<E> {
 		};
 	}
 
+	/**
+	 * @throws ArangoDBException if {@code silent} is set, the server then does not return the keys and revisions which
+	 *                           the compact result consists of
+	 */
+	protected static void checkCompactOptions(final Boolean silent) throws ArangoDBException {
+		if (Boolean.TRUE == silent) {
+			throw new ArangoDBException("The option silent is not supported by compact multi-document operations");
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	protected <T> ResponseDeserializer<MultiDocumentKeysEntity<T>> multiDocumentKeysResponseDeserializer(
+			final Collection<T> values, final Boolean returnNew, final Boolean returnOld) {
+		return response -> {
+			final Class<T> type = values.isEmpty() ? null : (Class<T>) values.iterator().next().getClass();
+			final VPackSlice body = response.getBody();
+			final int size = body.isArray() ? body.getLength() : 0;
+			final String[] keys = new String[size];
+			final String[] revs = new String[size];
+			final Object[] newDocs = Boolean.TRUE == returnNew ? new Object[size] : null;
+			final Object[] oldDocs = Boolean.TRUE == returnOld ? new Object[size] : null;
+			int[] errorIndexes = null;
+			ErrorEntity[] errors = null;
+			int errorCount = 0;
+			final Iterator<VPackSlice> iterator = size > 0 ? body.arrayIterator() : null;
+			final Iterator<T> valueIterator = values.iterator();
+			for (int i = 0; i < size; i++) {
+				final VPackSlice next = iterator.next();
+				final T value = valueIterator.hasNext() ? valueIterator.next() : null;
+				final VPackSlice key = next.get(KEY);
+				if (key.isString()) {
+					keys[i] = key.getAsString();
+					final VPackSlice rev = next.get(REV);
+					revs[i] = rev.isString() ? rev.getAsString() : null;
+					if (value != null) {
+						final VPackSlice id = next.get(ID);
+						this.executor.documentCache()
+								.setKeyIdRev(value, id.isString() ? id.getAsString() : null, keys[i], revs[i]);
+					}
+					if (newDocs != null) {
+						final VPackSlice newDoc = next.get(NEW);
+						if (newDoc.isObject()) {
+							newDocs[i] = util(Serializer.CUSTOM).deserialize(newDoc, type);
+						}
+					}
+					if (oldDocs != null) {
+						final VPackSlice oldDoc = next.get(OLD);
+						if (oldDoc.isObject()) {
+							oldDocs[i] = util(Serializer.CUSTOM).deserialize(oldDoc, type);
+						}
+					}
+				} else {
+					if (errorIndexes == null) {
+						errorIndexes = new int[4];
+						errors = new ErrorEntity[4];
+					} else if (errorCount == errorIndexes.length) {
+						errorIndexes = Arrays.copyOf(errorIndexes, errorCount * 2);
+						errors = Arrays.copyOf(errors, errorCount * 2);
+					}
+					errorIndexes[errorCount] = i;
+					errors[errorCount] = util().deserialize(next, ErrorEntity.class);
+					errorCount++;
+				}
+			}
+			return new MultiDocumentKeysEntity<>(keys, revs,
+					errorIndexes != null ? Arrays.copyOf(errorIndexes, errorCount) : null,
+					errors != null ? Arrays.copyOf(errors, errorCount) : null, newDocs, oldDocs);
+		};
+	}
+
 	protected Request importDocumentsRequest(final String values, final DocumentImportOptions options) {
 
 		return importDocumentsRequest(options).putQueryParam("type", ImportType.auto).setJsonBody(values);
@@ -211,10 +283,36 @@ extends ArangoExecuteable<E> {
 		return importDocumentsRequest(options).putQueryParam("type", ImportType.auto).setBody(values);
 	}
 
+	/**
+	 * Request for one batch of a streamed import. Only the first batch may empty the collection, the option
+	 * {@code overwrite} is turned off for all following ones.
+	 */
+	protected Request importDocumentsBatchRequest(
+			final VPackSlice batch, final DocumentImportOptions options, final boolean first) {
+		final Request request = importDocumentsRequest(batch, options);
+		if (!first) {
+			request.putQueryParam(OVERWRITE, false);
+		}
+		return request;
+	}
+
 
 	protected Request importDocumentsRequest(final Collection<?> values, final DocumentImportOptions options) {
-		return importDocumentsRequest(options).putQueryParam("type", ImportType.list).setBody(util(Serializer.CUSTOM)
-				.serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+		return setDocumentBody(importDocumentsRequest(options).putQueryParam("type", ImportType.list), values,
+				new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true));
+	}
+
+	/**
+	 * Sets the given document or documents as body of the request. {@link RawJson} documents are sent as they are with
+	 * the JSON protocol, without being converted to VelocyPack and back.
+	 */
+	private Request setDocumentBody(final Request request, final Object value, final ArangoSerializer.Options options) {
+		final RawJson json = RawPassthroughSerialization.json(value);
+		if (json != null) {
+			return request.setJsonBody(json);
+		}
+		final ArangoSerialization serialization = util(Serializer.CUSTOM);
+		return request.setBody(options != null ? serialization.serialize(value, options) : serialization.serialize(value));
 	}
 
 	protected Request importDocumentsRequest(final DocumentImportOptions options) {
@@ -291,7 +389,7 @@ extends ArangoExecuteable<E> {
 		request.putQueryParam(RETURN_NEW, params.getReturnNew());
 		request.putQueryParam(RETURN_OLD, params.getReturnOld());
 		request.putQueryParam(SILENT, params.getSilent());
-		request.setBody(util(Serializer.CUSTOM).serialize(value));
+		setDocumentBody(request, value, null);
 		return request;
 	}
 
@@ -309,9 +407,7 @@ extends ArangoExecuteable<E> {
 				doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, value.getClass()));
 			}
 			if (options == null || Boolean.TRUE != options.getSilent()) {
-				final Map<DocumentField.Type, String> values = new HashMap<>();
-				values.put(DocumentField.Type.REV, doc.getRev());
-				this.executor.documentCache().setValues(value, values);
+				this.executor.documentCache().setKeyIdRev(value, null, null, doc.getRev());
 			}
 			return doc;
 		};
@@ -326,8 +422,8 @@ extends ArangoExecuteable<E> {
 		request.putQueryParam(RETURN_NEW, params.getReturnNew());
 		request.putQueryParam(RETURN_OLD, params.getReturnOld());
 		request.putQueryParam(SILENT, params.getSilent());
-		request.setBody(util(Serializer.CUSTOM)
-				.serialize(values, new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true)));
+		setDocumentBody(request, values,
+				new ArangoSerializer.Options().serializeNullValues(false).stringAsJson(true));
 		return request;
 	}
 
@@ -388,8 +484,8 @@ extends ArangoExecuteable<E> {
 		request.putQueryParam(RETURN_NEW, params.getReturnNew());
 		request.putQueryParam(RETURN_OLD, params.getReturnOld());
 		request.putQueryParam(SILENT, params.getSilent());
-		request.setBody(util(Serializer.CUSTOM).serialize(value, new ArangoSerializer.Options()
-				.serializeNullValues(params.getSerializeNull() == null || params.getSerializeNull())));
+		setDocumentBody(request, value, new ArangoSerializer.Options()
+				.serializeNullValues(params.getSerializeNull() == null || params.getSerializeNull()));
 		return request;
 	}
 
@@ -407,9 +503,7 @@ extends ArangoExecuteable<E> {
 				doc.setOld(util(Serializer.CUSTOM).deserialize(oldDoc, value.getClass()));
 			}
 			if (options == null || Boolean.TRUE != options.getSilent()) {
-				final Map<DocumentField.Type, String> values = new HashMap<>();
-				values.put(DocumentField.Type.REV, doc.getRev());
-				this.executor.documentCache().setValues(value, values);
+				this.executor.documentCache().setKeyIdRev(value, null, null, doc.getRev());
 			}
 			return doc;
 		};
@@ -427,9 +521,9 @@ extends ArangoExecuteable<E> {
 		request.putQueryParam(RETURN_NEW, params.getReturnNew());
 		request.putQueryParam(RETURN_OLD, params.getReturnOld());
 		request.putQueryParam(SILENT, params.getSilent());
-		request.setBody(util(Serializer.CUSTOM).serialize(values, new ArangoSerializer.Options()
+		setDocumentBody(request, values, new ArangoSerializer.Options()
 				.serializeNullValues(params.getSerializeNull() == null || params.getSerializeNull())
-				.stringAsJson(true)));
+				.stringAsJson(true));
 		return request;
 	}
 
@@ -688,10 +782,19 @@ extends ArangoExecuteable<E> {
 
 	protected <T> Request responsibleShardRequest(final T value) {
 		final Request request = request(this.db.name(), RequestType.PUT, PATH_API_COLLECTION, this.name, "responsibleShard");
-		request.setBody(util(Serializer.CUSTOM).serialize(value));
+		setDocumentBody(request, value, null);
 		return request;
 	}
 
+	protected Request getShardsRequest() {
+		return request(this.db.name(), RequestType.GET, PATH_API_COLLECTION, this.name, "shards");
+	}
+
+	protected ResponseDeserializer<Collection<String>> getShardsResponseDeserializer() {
+		return response -> util().deserialize(response.getBody().get("shards"), new Type<Collection<String>>() {
+		}.getType());
+	}
+
 	protected Request getRevisionRequest() {
 		return request(this.db.name(), RequestType.GET, PATH_API_COLLECTION, this.name, "revision");
 	}
@@ -26,6 +26,7 @@ import com.arangodb.entity.LoadBalancingStrategy;
 import com.arangodb.internal.net.*;
 import com.arangodb.internal.util.HostUtils;
 import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.internal.velocypack.VPackPojoCodec;
 import com.arangodb.util.ArangoDeserializer;
 import com.arangodb.util.ArangoSerialization;
 import com.arangodb.util.ArangoSerializer;
@@ -57,6 +58,9 @@ public abstract class InternalArangoDBBuilder {
 	private static final String PROPERTY_KEY_PASSWORD = "arangodb.password";
 	private static final String PROPERTY_KEY_USE_SSL = "arangodb.usessl";
 	private static final String PROPERTY_KEY_COOKIE_SPEC = "arangodb.httpCookieSpec";
+	private static final String PROPERTY_KEY_ACCEPT_COMPRESSION = "arangodb.acceptCompression";
+	private static final String PROPERTY_KEY_COMPRESSION_THRESHOLD = "arangodb.compressionThreshold";
+	private static final String PROPERTY_KEY_USE_JWT = "arangodb.useJwt";
 	private static final String PROPERTY_KEY_V_STREAM_CHUNK_CONTENT_SIZE = "arangodb.chunksize";
 	private static final String PROPERTY_KEY_MAX_CONNECTIONS = "arangodb.connections.max";
 	private static final String PROPERTY_KEY_CONNECTION_TTL = "arangodb.connections.ttl";
@@ -73,6 +77,12 @@ public abstract class InternalArangoDBBuilder {
 	protected String password;
 	protected Boolean useSsl;
 	protected String httpCookieSpec;
+	protected Boolean acceptCompression;
+	protected Integer compressionThreshold;
+	protected Boolean useJwt;
+	protected Integer queryResultCacheSize;
+	protected Long queryResultCacheTtl;
+	protected Long queryResultCacheMaxBytes;
 	protected SSLContext sslContext;
 	protected Integer chunksize;
 	protected Integer maxConnections;
@@ -127,6 +137,9 @@ public abstract class InternalArangoDBBuilder {
 		password = loadPassword(properties, password);
 		useSsl = loadUseSsl(properties, useSsl);
 		httpCookieSpec = loadhttpCookieSpec(properties, httpCookieSpec);
+		acceptCompression = loadAcceptCompression(properties, acceptCompression);
+		compressionThreshold = loadCompressionThreshold(properties, compressionThreshold);
+		useJwt = loadUseJwt(properties, useJwt);
 		chunksize = loadChunkSize(properties, chunksize);
 		maxConnections = loadMaxConnections(properties, maxConnections);
 		connectionTtl = loadConnectionTtl(properties, connectionTtl);
@@ -183,6 +196,36 @@ public abstract class InternalArangoDBBuilder {
 		this.sslContext = sslContext;
 	}
 
+	protected void setAcceptCompression(final Boolean acceptCompression) {
+		this.acceptCompression = acceptCompression;
+	}
+
+	protected void setCompressionThreshold(final Integer compressionThreshold) {
+		this.compressionThreshold = compressionThreshold;
+	}
+
+	protected void setUseJwt(final Boolean useJwt) {
+		this.useJwt = useJwt;
+	}
+
+	protected void setQueryResultCacheSize(final Integer queryResultCacheSize) {
+		this.queryResultCacheSize = queryResultCacheSize;
+	}
+
+	protected void setQueryResultCacheTtl(final Long queryResultCacheTtl) {
+		this.queryResultCacheTtl = queryResultCacheTtl;
+	}
+
+	protected void setQueryResultCacheMaxBytes(final Long queryResultCacheMaxBytes) {
+		this.queryResultCacheMaxBytes = queryResultCacheMaxBytes;
+	}
+
+	protected <T> void registerGeneratedCodec(final Class<T> type) {
+		final VPackPojoCodec<T> codec = VPackPojoCodec.create(type);
+		vpackBuilder.registerSerializer(type, codec);
+		vpackBuilder.registerDeserializer(type, codec);
+	}
+
 	protected void setChunksize(final Integer chunksize) {
 		this.chunksize = chunksize;
 	}
@@ -312,6 +355,22 @@ public abstract class InternalArangoDBBuilder {
 		return getProperty(properties, PROPERTY_KEY_COOKIE_SPEC, currentValue, "");
 	}
 
+	private static Boolean loadAcceptCompression(final Properties properties, final Boolean currentValue) {
+		return Boolean.parseBoolean(getProperty(properties, PROPERTY_KEY_ACCEPT_COMPRESSION, currentValue,
+				ArangoDefaults.DEFAULT_ACCEPT_COMPRESSION));
+	}
+
+	private static Integer loadCompressionThreshold(final Properties properties, final Integer currentValue) {
+		final String threshold = getProperty(properties, PROPERTY_KEY_COMPRESSION_THRESHOLD, currentValue,
+				ArangoDefaults.DEFAULT_COMPRESSION_THRESHOLD);
+		return threshold != null ? Integer.parseInt(threshold) : null;
+	}
+
+	private static Boolean loadUseJwt(final Properties properties, final Boolean currentValue) {
+		return Boolean.parseBoolean(
+				getProperty(properties, PROPERTY_KEY_USE_JWT, currentValue, ArangoDefaults.DEFAULT_USE_JWT));
+	}
+
 	private static Integer loadChunkSize(final Properties properties, final Integer currentValue) {
 		return Integer.parseInt(getProperty(properties, PROPERTY_KEY_V_STREAM_CHUNK_CONTENT_SIZE, currentValue,
 				ArangoDefaults.CHUNK_DEFAULT_CONTENT_SIZE));
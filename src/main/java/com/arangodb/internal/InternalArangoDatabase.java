@@ -32,7 +32,9 @@ import com.arangodb.model.arangosearch.ArangoSearchCreateOptions;
 import com.arangodb.model.arangosearch.ArangoSearchOptionsBuilder;
 import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.Type;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 import com.arangodb.velocypack.exception.VPackException;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
@@ -58,6 +60,8 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
     private static final String PATH_API_AQLFUNCTION = "/_api/aqlfunction";
     private static final String PATH_API_EXPLAIN = "/_api/explain";
     private static final String PATH_API_QUERY = "/_api/query";
+    private static final String BIND_VARS = "bindVars";
+    private static final String BATCH_SIZE = "batchSize";
     private static final String PATH_API_QUERY_CACHE = "/_api/query-cache";
     private static final String PATH_API_QUERY_CACHE_PROPERTIES = "/_api/query-cache/properties";
     private static final String PATH_API_QUERY_PROPERTIES = "/_api/query/properties";
@@ -169,6 +173,16 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
 
     protected Request queryRequest(
             final String query, final Map<String, Object> bindVars, final AqlQueryOptions options) {
+        final Request request = queryTemplateRequest(query, bindVars, options);
+        // an adaptive batch size is added to the serialized request, the options of the caller stay untouched
+        return isAdaptiveBatchSize(options) ? preparedQueryRequest(request, query, null, options) : request;
+    }
+
+    /**
+     * @return the cursor request of the query, without an adaptive batch size
+     */
+    protected Request queryTemplateRequest(
+            final String query, final Map<String, Object> bindVars, final AqlQueryOptions options) {
         final AqlQueryOptions opt = options != null ? options : new AqlQueryOptions();
         final Request request = request(name, RequestType.POST, PATH_API_CURSOR)
                 .setBody(util().serialize(OptionsBuilder
@@ -182,6 +196,43 @@ public abstract class InternalArangoDatabase<A extends InternalArangoDB<EXECUTOR
         return request;
     }
 
+    private static boolean isAdaptiveBatchSize(final AqlQueryOptions options) {
+        return options != null && options.getAdaptiveBatchSize() == Boolean.TRUE && options.getBatchSize() == null;
+    }
+
+    /**
+     * @param template the request of a query without bind parameters and batch size, see
+     *                 {@link #queryTemplateRequest(String, Map, AqlQueryOptions)}
+     * @param query    the query text
+     * @param bindVars the bind parameters, can be null
+     * @param options  the options the template was created with, can be null
+     * @return a copy of the template with the given bind parameters and the batch size chosen for this execution, if
+     * the batch size is adaptive
+     */
+    protected Request preparedQueryRequest(
+            final Request template, final String query, final Map<String, Object> bindVars,
+            final AqlQueryOptions options) {
+        final Request request = new Request(template);
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        for (final Iterator<Map.Entry<String, VPackSlice>> iterator = template.getBody().objectIterator(); iterator.hasNext(); ) {
+            final Map.Entry<String, VPackSlice> next = iterator.next();
+            builder.add(next.getKey(), next.getValue());
+        }
+        if (bindVars != null) {
+            builder.add(BIND_VARS, util(Serializer.CUSTOM).serialize(bindVars,
+                    new ArangoSerializer.Options().serializeNullValues(true)));
+        }
+        if (isAdaptiveBatchSize(options)) {
+            final Integer batchSize = executor.batchSizeTuner().batchSize(name, query);
+            if (batchSize != null) {
+                builder.add(BATCH_SIZE, batchSize);
+            }
+        }
+        builder.close();
+        return request.setBody(builder.slice());
+    }
+
     protected Request queryNextRequest(final String id, final AqlQueryOptions options, Map<String, String> meta) {
 
         final Request request = request(name, RequestType.PUT, PATH_API_CURSOR, id);
@@ -20,7 +20,6 @@
 
 package com.arangodb.internal;
 
-import com.arangodb.entity.DocumentField;
 import com.arangodb.entity.EdgeEntity;
 import com.arangodb.entity.EdgeUpdateEntity;
 import com.arangodb.internal.ArangoExecutor.ResponseDeserializer;
@@ -33,9 +32,6 @@ import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.RequestType;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * @author Mark Vollmary
  */
@@ -78,11 +74,7 @@ public abstract class InternalArangoEdgeCollection<A extends InternalArangoDB<E>
         return response -> {
             final VPackSlice body = response.getBody().get(EDGE);
             final EdgeEntity doc = util().deserialize(body, EdgeEntity.class);
-            final Map<DocumentField.Type, String> values = new HashMap<>();
-            values.put(DocumentField.Type.ID, doc.getId());
-            values.put(DocumentField.Type.KEY, doc.getKey());
-            values.put(DocumentField.Type.REV, doc.getRev());
-            executor.documentCache().setValues(value, values);
+            executor.documentCache().setKeyIdRev(value, doc.getId(), doc.getKey(), doc.getRev());
             return doc;
         };
     }
@@ -119,9 +111,7 @@ public abstract class InternalArangoEdgeCollection<A extends InternalArangoDB<E>
         return response -> {
             final VPackSlice body = response.getBody().get(EDGE);
             final EdgeUpdateEntity doc = util().deserialize(body, EdgeUpdateEntity.class);
-            final Map<DocumentField.Type, String> values = new HashMap<>();
-            values.put(DocumentField.Type.REV, doc.getRev());
-            executor.documentCache().setValues(value, values);
+            executor.documentCache().setKeyIdRev(value, null, null, doc.getRev());
             return doc;
         };
     }
@@ -144,9 +134,7 @@ public abstract class InternalArangoEdgeCollection<A extends InternalArangoDB<E>
         return response -> {
             final VPackSlice body = response.getBody().get(EDGE);
             final EdgeUpdateEntity doc = util().deserialize(body, EdgeUpdateEntity.class);
-            final Map<DocumentField.Type, String> values = new HashMap<>();
-            values.put(DocumentField.Type.REV, doc.getRev());
-            executor.documentCache().setValues(value, values);
+            executor.documentCache().setKeyIdRev(value, null, null, doc.getRev());
             return doc;
         };
     }
@@ -0,0 +1,64 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
+import com.arangodb.PreparedQuery;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.velocystream.Request;
+
+import java.util.Map;
+
+/**
+ * Keeps the cursor request of a query, with the serialized query text and options, as template for its executions.
+ *
+ * @param <T> the type of the result
+ */
+class PreparedQueryImpl<T> implements PreparedQuery<T> {
+
+    private final ArangoDatabaseImpl db;
+    private final String query;
+    private final AqlQueryOptions options;
+    private final Class<T> type;
+    private final Request template;
+
+    PreparedQueryImpl(final ArangoDatabaseImpl db, final String query, final AqlQueryOptions options,
+                      final Class<T> type) {
+        super();
+        this.db = db;
+        this.query = query;
+        this.options = options;
+        this.type = type;
+        template = db.queryTemplateRequest(query, null, options);
+    }
+
+    @Override
+    public ArangoCursor<T> execute(final Map<String, Object> bindVars) throws ArangoDBException {
+        return db.query(db.preparedQueryRequest(template, query, bindVars, options), query, options, type);
+    }
+
+    @Override
+    public ArangoCursor<T> execute() throws ArangoDBException {
+        return execute(null);
+    }
+
+}
@@ -0,0 +1,234 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Client side cache of complete AQL query results. Entries are keyed by database, normalized query text, bind
+ * parameters, query options and request headers (e.g. whether dirty reads are allowed). They are evicted in least
+ * recently used order once the number of entries or the size of the response buffers they keep alive exceeds its limit,
+ * and expire after a fixed time. Optionally an entry is only valid as long as the revisions of the collections it was
+ * stored with did not change.
+ */
+public class QueryResultCache {
+
+    private static final String QUERY = "query";
+
+    static final class Key {
+        private final String database;
+        private final String query;
+        private final byte[] request;
+        private final Map<String, String> headers;
+        private final int hash;
+
+        private Key(final String database, final String query, final byte[] request,
+                    final Map<String, String> headers) {
+            this.database = database;
+            this.query = query;
+            this.request = request;
+            this.headers = headers;
+            hash = 31 * (31 * (31 * database.hashCode() + query.hashCode()) + Arrays.hashCode(request))
+                    + headers.hashCode();
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) o;
+            return hash == key.hash && database.equals(key.database) && query.equals(key.query)
+                    && Arrays.equals(request, key.request) && headers.equals(key.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class CachedResult {
+        private final CursorEntity result;
+        private final Map<String, String> revisions;
+        private final long expiresAt;
+        private final long bytes;
+
+        private CachedResult(final CursorEntity result, final Map<String, String> revisions, final long expiresAt,
+                             final long bytes) {
+            this.result = result;
+            this.revisions = revisions;
+            this.expiresAt = expiresAt;
+            this.bytes = bytes;
+        }
+    }
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttl;
+    private final Map<Key, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * @param maxEntries maximum number of cached results
+     * @param maxBytes   maximum size of the response buffers kept alive by the cached results, larger results are not
+     *                   cached
+     * @param ttl        time in milliseconds after which a cached result expires
+     */
+    public QueryResultCache(final int maxEntries, final long maxBytes, final long ttl) {
+        super();
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+        this.ttl = ttl;
+    }
+
+    /**
+     * @param database the database of the query
+     * @param query    the query text
+     * @param request  the body of the cursor request, its query attribute is replaced by the normalized query text
+     * @param headers  the header parameters of the cursor request
+     * @return the key of the query
+     */
+    Key key(final String database, final String query, final VPackSlice request, final Map<String, String> headers) {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        for (final Iterator<Entry<String, VPackSlice>> iterator = request.objectIterator(); iterator.hasNext(); ) {
+            final Entry<String, VPackSlice> next = iterator.next();
+            if (!QUERY.equals(next.getKey())) {
+                builder.add(next.getKey(), next.getValue());
+            }
+        }
+        builder.close();
+        final VPackSlice slice = builder.slice();
+        final byte[] bytes = Arrays.copyOfRange(slice.getBuffer(), slice.getStart(),
+                slice.getStart() + slice.getByteSize());
+        return new Key(database, normalize(query), bytes, new HashMap<>(headers));
+    }
+
+    /**
+     * @param key       the key of the query
+     * @param revisions the current revisions of the collections the query declared
+     * @return the cached result or {@code null} if there is none, it expired or one of the revisions changed
+     */
+    synchronized CursorEntity get(final Key key, final Map<String, String> revisions) {
+        final CachedResult cached = entries.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= cached.expiresAt || !cached.revisions.equals(revisions)) {
+            entries.remove(key);
+            bytes -= cached.bytes;
+            return null;
+        }
+        return cached.result;
+    }
+
+    /**
+     * Stores a result, if it is complete and not larger than the cache.
+     *
+     * @param key       the key of the query
+     * @param result    the first batch of the result
+     * @param revisions the revisions of the collections the query declared, read before it was executed
+     */
+    synchronized void put(final Key key, final CursorEntity result, final Map<String, String> revisions) {
+        if (Boolean.TRUE == result.getHasMore()) {
+            return;
+        }
+        // the result is a slice of the response, which is kept alive as a whole
+        final long size = result.getResult() != null ? result.getResult().getBuffer().length : 0;
+        if (size > maxBytes) {
+            return;
+        }
+        final CachedResult previous = entries.put(key,
+                new CachedResult(result, revisions, System.currentTimeMillis() + ttl, size));
+        bytes += size - (previous != null ? previous.bytes : 0);
+        for (final Iterator<CachedResult> eldest = entries.values().iterator();
+             entries.size() > maxEntries || bytes > maxBytes; ) {
+            bytes -= eldest.next().bytes;
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes comments and collapses whitespace outside of string literals and quoted names, so that queries which only
+     * differ in formatting share one cache entry.
+     *
+     * @param query the query text
+     * @return the normalized query text
+     */
+    static String normalize(final String query) {
+        final StringBuilder normalized = new StringBuilder(query.length());
+        final int length = query.length();
+        boolean space = false;
+        int i = 0;
+        while (i < length) {
+            final char c = query.charAt(i);
+            if (c == '"' || c == '\'' || c == '`' || c == '\u00b4') {
+                int end = i + 1;
+                while (end < length && query.charAt(end) != c) {
+                    end += query.charAt(end) == '\\' ? 2 : 1;
+                }
+                end = Math.min(end + 1, length);
+                appendSpace(normalized, space);
+                space = false;
+                normalized.append(query, i, end);
+                i = end;
+            } else if (c == '/' && i + 1 < length && query.charAt(i + 1) == '/') {
+                final int end = query.indexOf('\n', i);
+                i = end < 0 ? length : end;
+                space = true;
+            } else if (c == '/' && i + 1 < length && query.charAt(i + 1) == '*') {
+                final int end = query.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                space = true;
+            } else if (Character.isWhitespace(c)) {
+                space = true;
+                i++;
+            } else {
+                appendSpace(normalized, space);
+                space = false;
+                normalized.append(c);
+                i++;
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static void appendSpace(final StringBuilder normalized, final boolean space) {
+        if (space && normalized.length() > 0) {
+            normalized.append(' ');
+        }
+    }
+
+}
@@ -23,16 +23,26 @@ package com.arangodb.internal.cursor;
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoIterator;
 import com.arangodb.Consumer;
+import com.arangodb.entity.ColumnBatch;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.entity.CursorEntity.Extras;
 import com.arangodb.entity.CursorEntity.Stats;
 import com.arangodb.entity.CursorEntity.Warning;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.velocypack.VPackSlice;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * @author Mark Vollmary
@@ -120,6 +130,62 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
         return remaining;
     }
 
+    @Override
+    public ArangoIterator<List<T>> batches() {
+        return new ArangoIterator<List<T>>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<T> next() {
+                return iterator.nextBatch();
+            }
+        };
+    }
+
+    @Override
+    public ArangoIterator<VPackSlice> rawBatches() {
+        return new ArangoIterator<VPackSlice>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public VPackSlice next() {
+                return iterator.nextRawBatch();
+            }
+        };
+    }
+
+    @Override
+    public ArangoIterator<ColumnBatch> columnBatches() {
+        return new ArangoIterator<ColumnBatch>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public ColumnBatch next() {
+                return iterator.nextColumnBatch();
+            }
+        };
+    }
+
+    @Override
+    public List<T> asListRemaining(final long heapBudget) {
+        try (final SpillableList.Builder<T> builder = new SpillableList.Builder<>(
+                heapBudget, element -> iterator.deserialize(element, type))) {
+            while (hasNext()) {
+                builder.add(iterator.nextRawBatch());
+            }
+            return builder.build();
+        }
+    }
+
     @Override
     public void remove() {
         throw new UnsupportedOperationException();
@@ -130,6 +196,101 @@ public class ArangoCursorImpl<T> extends AbstractArangoIterable<T> implements Ar
         return iterator;
     }
 
+    /**
+     * @return a spliterator which splits at batch boundaries, fetching the next batch while the split off batch is
+     * processed
+     */
+    @Override
+    public Spliterator<T> spliterator() {
+        return new Spliterator<T>() {
+            @Override
+            public boolean tryAdvance(final java.util.function.Consumer<? super T> action) {
+                if (!hasNext()) {
+                    return false;
+                }
+                action.accept(next());
+                return true;
+            }
+
+            @Override
+            public Spliterator<T> trySplit() {
+                return iterator.splitBatch();
+            }
+
+            @Override
+            public long estimateSize() {
+                return Long.MAX_VALUE;
+            }
+
+            @Override
+            public int characteristics() {
+                return ORDERED;
+            }
+        };
+    }
+
+    @Override
+    public Stream<T> stream() {
+        return StreamSupport.stream(spliterator(), false).onClose(this::close);
+    }
+
+    @Override
+    public Stream<T> parallelStream() {
+        return StreamSupport.stream(spliterator(), true).onClose(this::close);
+    }
+
+    @Override
+    public LongStream asLongStream() {
+        return StreamSupport.longStream(new Spliterators.AbstractLongSpliterator(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            // one element at a time, so that the cursor keeps its position if the stream stops early
+            @Override
+            public boolean tryAdvance(final LongConsumer action) {
+                if (!hasNext()) {
+                    return false;
+                }
+                action.accept(iterator.nextLong());
+                return true;
+            }
+
+            // all remaining elements are consumed, so whole batches are read at once
+            @Override
+            public void forEachRemaining(final LongConsumer action) {
+                while (hasNext()) {
+                    for (final long value : iterator.nextLongBatch()) {
+                        action.accept(value);
+                    }
+                }
+            }
+        }, false).onClose(this::close);
+    }
+
+    @Override
+    public DoubleStream asDoubleStream() {
+        return StreamSupport.doubleStream(new Spliterators.AbstractDoubleSpliterator(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            // one element at a time, so that the cursor keeps its position if the stream stops early
+            @Override
+            public boolean tryAdvance(final DoubleConsumer action) {
+                if (!hasNext()) {
+                    return false;
+                }
+                action.accept(iterator.nextDouble());
+                return true;
+            }
+
+            // all remaining elements are consumed, so whole batches are read at once
+            @Override
+            public void forEachRemaining(final DoubleConsumer action) {
+                while (hasNext()) {
+                    for (final double value : iterator.nextDoubleBatch()) {
+                        action.accept(value);
+                    }
+                }
+            }
+        }, false).onClose(this::close);
+    }
+
     @Override
     public void foreach(final Consumer<? super T> action) {
         while (hasNext()) {
@@ -22,13 +22,20 @@ package com.arangodb.internal.cursor;
 
 import com.arangodb.ArangoCursor;
 import com.arangodb.ArangoIterator;
+import com.arangodb.entity.ColumnBatch;
 import com.arangodb.entity.CursorEntity;
 import com.arangodb.internal.ArangoCursorExecute;
 import com.arangodb.internal.InternalArangoDatabase;
 import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.velocypack.VPackBuilder;
 import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 
 /**
  * @param <T>
@@ -64,16 +71,178 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
 
     @Override
     public T next() {
-        if (pos >= result.getResult().size() && result.getHasMore()) {
-            result = execute.next(cursor.getId(), result.getMeta());
-            pos = 0;
-        }
+        fetchIfConsumed();
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
         return deserialize(result.getResult().get(pos++), cursor.getType());
     }
 
+    /**
+     * Hands out the remaining elements of the current batch, or of the next batch if the current one is consumed. The
+     * elements are deserialized by the thread which consumes the returned {@code Spliterator}.
+     *
+     * @return the remaining elements of the batch or {@code null} if there are no more elements
+     */
+    public Spliterator<T> splitBatch() {
+        fetchIfConsumed();
+        final VPackSlice batch = result.getResult();
+        final int size = batch.size();
+        if (pos >= size) {
+            return null;
+        }
+        final Spliterator<T> split = new BatchSpliterator(batch, pos, size);
+        pos = size;
+        return split;
+    }
+
+    /**
+     * Hands out the remaining elements of the current batch, or of the next batch if the current one is consumed, without
+     * deserializing them.
+     *
+     * @return the remaining elements of the batch as VelocyPack array
+     */
+    public VPackSlice nextRawBatch() {
+        fetchIfConsumed();
+        final VPackSlice batch = result.getResult();
+        final int size = batch.size();
+        if (pos >= size) {
+            throw new NoSuchElementException();
+        }
+        final int from = pos;
+        pos = size;
+        if (from == 0) {
+            return batch;
+        }
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.ARRAY);
+        VPackSlice element = batch.get(from);
+        for (int i = from; i < size; i++, element = following(element)) {
+            builder.add(element);
+        }
+        return builder.close().slice();
+    }
+
+    /**
+     * Deserializes the remaining elements of the current batch, or of the next batch if the current one is consumed,
+     * in one pass over the batch.
+     *
+     * @return the remaining elements of the batch
+     */
+    public List<T> nextBatch() {
+        fetchIfConsumed();
+        final VPackSlice batch = result.getResult();
+        final int size = batch.size();
+        if (pos >= size) {
+            throw new NoSuchElementException();
+        }
+        final List<T> elements = new ArrayList<>(size - pos);
+        VPackSlice element = batch.get(pos);
+        for (int i = pos; i < size; i++, element = following(element)) {
+            elements.add(deserialize(element, cursor.getType()));
+        }
+        pos = size;
+        return elements;
+    }
+
+    /**
+     * @return the next element as {@code long}, without deserializing it to the type of the cursor
+     */
+    public long nextLong() {
+        return nextSlice().getAsLong();
+    }
+
+    /**
+     * @return the next element as {@code double}, without deserializing it to the type of the cursor
+     */
+    public double nextDouble() {
+        return nextSlice().getAsDouble();
+    }
+
+    private VPackSlice nextSlice() {
+        fetchIfConsumed();
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return result.getResult().get(pos++);
+    }
+
+    /**
+     * Reads the remaining elements of the current batch, or of the next batch if the current one is consumed, as
+     * {@code long} values without boxing them.
+     *
+     * @return the remaining elements of the batch
+     */
+    public long[] nextLongBatch() {
+        fetchIfConsumed();
+        final VPackSlice batch = result.getResult();
+        final int size = batch.size();
+        if (pos >= size) {
+            throw new NoSuchElementException();
+        }
+        final long[] elements = new long[size - pos];
+        VPackSlice element = batch.get(pos);
+        for (int i = 0; i < elements.length; i++, element = following(element)) {
+            elements[i] = element.getAsLong();
+        }
+        pos = size;
+        return elements;
+    }
+
+    /**
+     * Reads the remaining elements of the current batch, or of the next batch if the current one is consumed, as
+     * {@code double} values without boxing them.
+     *
+     * @return the remaining elements of the batch
+     */
+    public double[] nextDoubleBatch() {
+        fetchIfConsumed();
+        final VPackSlice batch = result.getResult();
+        final int size = batch.size();
+        if (pos >= size) {
+            throw new NoSuchElementException();
+        }
+        final double[] elements = new double[size - pos];
+        VPackSlice element = batch.get(pos);
+        for (int i = 0; i < elements.length; i++, element = following(element)) {
+            elements[i] = element.getAsDouble();
+        }
+        pos = size;
+        return elements;
+    }
+
+    /**
+     * Decodes the remaining elements of the current batch, or of the next batch if the current one is consumed, into
+     * columns.
+     *
+     * @return the remaining elements of the batch as columns
+     */
+    public ColumnBatch nextColumnBatch() {
+        fetchIfConsumed();
+        final VPackSlice batch = result.getResult();
+        final int size = batch.size();
+        if (pos >= size) {
+            throw new NoSuchElementException();
+        }
+        final ColumnBatch columns = ColumnBatchDecoder.decode(batch, pos);
+        pos = size;
+        return columns;
+    }
+
+    /**
+     * The elements of an array are stored back to back, so the next one starts where the previous one ends. This
+     * avoids a lookup in the index table for every element.
+     */
+    static VPackSlice following(final VPackSlice element) {
+        return new VPackSlice(element.getBuffer(), element.getStart() + element.getByteSize());
+    }
+
+    private void fetchIfConsumed() {
+        if (pos >= result.getResult().size() && result.getHasMore()) {
+            result = execute.next(cursor.getId(), result.getMeta());
+            pos = 0;
+        }
+    }
+
     protected <R> R deserialize(final VPackSlice result, final Class<R> type) {
         return db.util(Serializer.CUSTOM).deserialize(result, type);
     }
@@ -83,4 +252,47 @@ public class ArangoCursorIterator<T> implements ArangoIterator<T> {
         throw new UnsupportedOperationException();
     }
 
+    private final class BatchSpliterator implements Spliterator<T> {
+
+        private final VPackSlice batch;
+        private int from;
+        private final int to;
+
+        private BatchSpliterator(final VPackSlice batch, final int from, final int to) {
+            this.batch = batch;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super T> action) {
+            if (from >= to) {
+                return false;
+            }
+            action.accept(deserialize(batch.get(from++), cursor.getType()));
+            return true;
+        }
+
+        @Override
+        public Spliterator<T> trySplit() {
+            final int middle = (from + to) >>> 1;
+            if (middle <= from) {
+                return null;
+            }
+            final Spliterator<T> prefix = new BatchSpliterator(batch, from, middle);
+            from = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return to - from;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED;
+        }
+    }
+
 }
@@ -0,0 +1,156 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chooses the batch size of queries with {@link AqlQueryOptions#getAdaptiveBatchSize()} from the batches of their
+ * previous executions. The batch size aims at responses of {@value #TARGET_BYTES} bytes, based on the observed bytes
+ * per document. If a round trip takes longer than {@value #TARGET_LATENCY_MILLIS} ms, the batch size grows with the
+ * latency, up to {@value #MAX_LATENCY_FACTOR} times, to save round trips.
+ *
+ * <p>
+ * The server fixes the batch size when the cursor is created, so the batch size adapts from one execution of a query
+ * to the next.
+ * </p>
+ */
+public class BatchSizeTuner {
+
+    static final int TARGET_BYTES = 1024 * 1024;
+    static final long TARGET_LATENCY_MILLIS = 10;
+    static final int MAX_LATENCY_FACTOR = 4;
+    static final int MAX_BATCH_SIZE = 100000;
+    private static final double WEIGHT = 0.3;
+
+    private static final class Statistics {
+        private double bytesPerDocument;
+        private double latencyNanos;
+
+        private void recordBatch(final double bytesPerDocument) {
+            this.bytesPerDocument = this.bytesPerDocument == 0 ? bytesPerDocument
+                    : WEIGHT * bytesPerDocument + (1 - WEIGHT) * this.bytesPerDocument;
+        }
+
+        private void recordLatency(final long latencyNanos) {
+            this.latencyNanos = this.latencyNanos == 0 ? latencyNanos
+                    : WEIGHT * latencyNanos + (1 - WEIGHT) * this.latencyNanos;
+        }
+    }
+
+    private final Map<String, Statistics> statistics;
+
+    /**
+     * @param maxQueries maximum number of queries for which statistics are kept
+     */
+    public BatchSizeTuner(final int maxQueries) {
+        super();
+        statistics = new LinkedHashMap<String, Statistics>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Entry<String, Statistics> eldest) {
+                return size() > maxQueries;
+            }
+        };
+    }
+
+    /**
+     * @param database the database of the query
+     * @param query    the query text
+     * @return the batch size for the next execution of the query or {@code null} if there are no statistics for it yet
+     */
+    public synchronized Integer batchSize(final String database, final String query) {
+        final Statistics stats = statistics.get(key(database, query));
+        if (stats == null || stats.bytesPerDocument == 0) {
+            return null;
+        }
+        double batchSize = TARGET_BYTES / stats.bytesPerDocument;
+        final double latencyFactor = stats.latencyNanos / TimeUnit.MILLISECONDS.toNanos(TARGET_LATENCY_MILLIS);
+        if (latencyFactor > 1) {
+            batchSize *= Math.min(latencyFactor, MAX_LATENCY_FACTOR);
+        }
+        return (int) Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+    }
+
+    /**
+     * Records the first batch of a query and returns an executor which records the round trips of the following
+     * batches.
+     *
+     * @param execute  the executor of the cursor requests
+     * @param database the database of the query
+     * @param query    the query text, {@code null} if the first batch was not requested by executing the query
+     * @param first    the first batch of the cursor
+     * @param options  the options of the query, may be {@code null}
+     * @return a recording executor if the query uses adaptive batch sizes, otherwise the given executor
+     */
+    public ArangoCursorExecute wrap(
+            final ArangoCursorExecute execute,
+            final String database,
+            final String query,
+            final CursorEntity first,
+            final AqlQueryOptions options) {
+        if (query == null || options == null || Boolean.TRUE != options.getAdaptiveBatchSize()) {
+            return execute;
+        }
+        final String key = key(database, query);
+        record(key, first, 0);
+        return new ArangoCursorExecute() {
+            @Override
+            public CursorEntity next(final String id, final Map<String, String> meta) throws ArangoDBException {
+                final long start = System.nanoTime();
+                final CursorEntity batch = execute.next(id, meta);
+                record(key, batch, System.nanoTime() - start);
+                return batch;
+            }
+
+            @Override
+            public void close(final String id, final Map<String, String> meta) throws ArangoDBException {
+                execute.close(id, meta);
+            }
+        };
+    }
+
+    private synchronized void record(final String key, final CursorEntity batch, final long latencyNanos) {
+        final VPackSlice result = batch.getResult();
+        final int size = result != null && result.isArray() ? result.size() : 0;
+        if (size == 0) {
+            return;
+        }
+        final Statistics stats = statistics.computeIfAbsent(key, k -> new Statistics());
+        stats.recordBatch((double) result.getByteSize() / size);
+        if (latencyNanos > 0) {
+            stats.recordLatency(latencyNanos);
+        }
+    }
+
+    private static String key(final String database, final String query) {
+        return database + '\u0000' + query;
+    }
+
+}
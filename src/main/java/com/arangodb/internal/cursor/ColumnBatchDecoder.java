@@ -0,0 +1,188 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ColumnBatch;
+import com.arangodb.entity.ColumnBatch.Column;
+import com.arangodb.entity.ColumnBatch.ColumnType;
+import com.arangodb.internal.velocypack.VPackStringInterner;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Decodes a batch of objects into a {@link ColumnBatch} in one pass over the VelocyPack array, writing every value
+ * directly into the array of its attribute.
+ */
+final class ColumnBatchDecoder {
+
+    private static final VPackStringInterner STRINGS = VPackStringInterner.DOCUMENTS;
+
+    private ColumnBatchDecoder() {
+        super();
+    }
+
+    private static final class ColumnBuilder {
+        private final String attribute;
+        private final int rows;
+        private final BitSet present;
+        private ColumnType type = ColumnType.NULL;
+        private long[] longs;
+        private double[] doubles;
+        private String[] strings;
+        private BitSet booleans;
+
+        private ColumnBuilder(final String attribute, final int rows) {
+            this.attribute = attribute;
+            this.rows = rows;
+            present = new BitSet(rows);
+        }
+
+        private void add(final int row, final VPackSlice value) {
+            if (value.isNull() || value.isNone()) {
+                return;
+            }
+            present.set(row);
+            if (value.isInteger()) {
+                if (type == ColumnType.NULL) {
+                    type = ColumnType.LONG;
+                    longs = new long[rows];
+                }
+                if (type == ColumnType.LONG) {
+                    longs[row] = value.getAsLong();
+                    return;
+                }
+                if (type == ColumnType.DOUBLE) {
+                    doubles[row] = value.getAsLong();
+                    return;
+                }
+            } else if (value.isDouble()) {
+                if (type == ColumnType.NULL) {
+                    type = ColumnType.DOUBLE;
+                    doubles = new double[rows];
+                } else if (type == ColumnType.LONG) {
+                    toDoubles();
+                }
+                if (type == ColumnType.DOUBLE) {
+                    doubles[row] = value.getAsDouble();
+                    return;
+                }
+            } else if (value.isString()) {
+                if (type == ColumnType.NULL) {
+                    type = ColumnType.STRING;
+                    strings = new String[rows];
+                }
+                if (type == ColumnType.STRING) {
+                    strings[row] = STRINGS.intern(value, VPackStringInterner.MAX_VALUE_LENGTH);
+                    return;
+                }
+            } else if (value.isBoolean()) {
+                if (type == ColumnType.NULL) {
+                    type = ColumnType.BOOLEAN;
+                    booleans = new BitSet(rows);
+                }
+                if (type == ColumnType.BOOLEAN) {
+                    if (value.isTrue()) {
+                        booleans.set(row);
+                    }
+                    return;
+                }
+            }
+            throw new ArangoDBException(String.format(
+                    "Attribute %s can not be decoded to a column of type %s, found value of type %s in row %s",
+                    attribute, type, value.getType(), row));
+        }
+
+        private void toDoubles() {
+            doubles = new double[rows];
+            for (int i = present.nextSetBit(0); i >= 0; i = present.nextSetBit(i + 1)) {
+                doubles[i] = longs[i];
+            }
+            longs = null;
+            type = ColumnType.DOUBLE;
+        }
+
+        private Column build() {
+            final BitSet nulls = new BitSet(rows);
+            nulls.set(0, rows);
+            nulls.andNot(present);
+            final Object values;
+            switch (type) {
+                case LONG:
+                    values = longs;
+                    break;
+                case DOUBLE:
+                    values = doubles;
+                    break;
+                case STRING:
+                    values = strings;
+                    break;
+                case BOOLEAN:
+                    values = booleans;
+                    break;
+                default:
+                    values = null;
+                    break;
+            }
+            return new Column(type, values, nulls);
+        }
+    }
+
+    /**
+     * @param batch VelocyPack array of objects
+     * @param from  index of the first row to decode
+     * @return the rows from the given index on as columns
+     */
+    static ColumnBatch decode(final VPackSlice batch, final int from) {
+        final int rows = batch.size() - from;
+        final Map<String, ColumnBuilder> builders = new LinkedHashMap<>();
+        VPackSlice row = rows > 0 ? batch.get(from) : null;
+        for (int i = 0; i < rows; i++, row = ArangoCursorIterator.following(row)) {
+            if (!row.isObject()) {
+                throw new ArangoDBException(
+                        String.format("Only objects can be decoded to columns, found value of type %s in row %s",
+                                row.getType(), i));
+            }
+            final int index = i;
+            STRINGS.forEachAttribute(row, (name, value) -> builder(builders, name, rows).add(index, value));
+        }
+        final Map<String, Column> columns = new LinkedHashMap<>();
+        for (final Entry<String, ColumnBuilder> entry : builders.entrySet()) {
+            columns.put(entry.getKey(), entry.getValue().build());
+        }
+        return new ColumnBatch(rows, columns);
+    }
+
+    private static ColumnBuilder builder(final Map<String, ColumnBuilder> builders, final String attribute,
+                                         final int rows) {
+        ColumnBuilder builder = builders.get(attribute);
+        if (builder == null) {
+            builder = new ColumnBuilder(attribute, rows);
+            builders.put(attribute, builder);
+        }
+        return builder;
+    }
+
+}
@@ -0,0 +1,212 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Reads several cursors concurrently and merges their batches into one stream. Every worker thread opens one cursor
+ * after the other and hands the deserialized batches over a bounded queue, so at most two batches per worker wait for
+ * the consumer. The order of the results is not defined.
+ * <p>
+ * The workers stop and close their cursors when the stream is closed, exhausted or fails. Streams which are neither
+ * closed nor read to the end (e.g. after {@code findFirst()}) are detected once they are garbage collected: waiting
+ * workers then give up instead of blocking on the full queue forever.
+ *
+ * @param <T> the type of the results
+ */
+public class ParallelScan<T> {
+
+    private static final Object END = new Object();
+    private static final long OFFER_TIMEOUT_MILLIS = 500;
+
+    private static final class Failure {
+        private final Exception exception;
+
+        private Failure(final Exception exception) {
+            this.exception = exception;
+        }
+    }
+
+    private final List<Supplier<ArangoCursor<T>>> cursors;
+    private final int workers;
+    private final AtomicInteger nextCursor = new AtomicInteger();
+    private final BlockingQueue<Object> queue;
+    private final ExecutorService pool;
+    private volatile boolean closed;
+    // the workers must not keep the consumer reachable, otherwise an abandoned stream would never be collected
+    private WeakReference<Spliterator<T>> consumer;
+
+    private ParallelScan(final List<Supplier<ArangoCursor<T>>> cursors, final int parallelism) {
+        super();
+        this.cursors = cursors;
+        workers = Math.max(1, Math.min(parallelism, cursors.size()));
+        queue = new ArrayBlockingQueue<>(2 * workers);
+        pool = Executors.newFixedThreadPool(workers, r -> {
+            final Thread thread = new Thread(r, "arangodb-parallel-scan");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * @param cursors     open the cursors to read, each one is called once from a worker thread
+     * @param parallelism maximum number of cursors read at the same time
+     * @return the results of all cursors, closing the stream stops the workers and closes their cursors
+     */
+    public static <T> Stream<T> stream(final List<Supplier<ArangoCursor<T>>> cursors, final int parallelism) {
+        final ParallelScan<T> scan = new ParallelScan<>(cursors, parallelism);
+        final Spliterator<T> spliterator = scan.spliterator();
+        scan.consumer = new WeakReference<>(spliterator);
+        scan.start();
+        return StreamSupport.stream(spliterator, false).onClose(scan::close);
+    }
+
+    private void start() {
+        for (int i = 0; i < workers; i++) {
+            pool.execute(this::work);
+        }
+        pool.shutdown();
+    }
+
+    private void work() {
+        try {
+            for (int i = nextCursor.getAndIncrement(); !closed && i < cursors.size(); i = nextCursor.getAndIncrement()) {
+                final ArangoCursor<T> cursor = cursors.get(i).get();
+                try {
+                    for (final Iterator<List<T>> batches = cursor.batches(); batches.hasNext(); ) {
+                        if (!put(batches.next())) {
+                            return;
+                        }
+                    }
+                } finally {
+                    close(cursor);
+                }
+            }
+            put(END);
+        } catch (final InterruptedException e) {
+            // closed by the consumer
+            Thread.currentThread().interrupt();
+        } catch (final Exception e) {
+            try {
+                put(new Failure(e));
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return {@code false} if the consumer is gone, either because the scan was closed or because the stream was
+     * garbage collected without being closed
+     */
+    private boolean put(final Object item) throws InterruptedException {
+        while (!queue.offer(item, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+            if (closed || consumer.get() == null) {
+                // no shutdownNow() from a worker, it would interrupt the worker itself before it closes its cursor
+                closed = true;
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Closes the cursor with the interrupt status cleared, since the request to close the cursor on the server fails
+     * on an interrupted thread, which would leak the server side cursor. The interrupt status is restored afterwards.
+     */
+    private static void close(final ArangoCursor<?> cursor) throws IOException {
+        final boolean interrupted = Thread.interrupted();
+        try {
+            cursor.close();
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private Spliterator<T> spliterator() {
+        return new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, 0) {
+            private List<T> batch;
+            private int pos;
+            private int finished;
+
+            @Override
+            public boolean tryAdvance(final Consumer<? super T> action) {
+                while (batch == null || pos >= batch.size()) {
+                    if (finished == workers) {
+                        close();
+                        return false;
+                    }
+                    final Object next = take();
+                    if (next == END) {
+                        finished++;
+                    } else if (next instanceof Failure) {
+                        close();
+                        final Exception e = ((Failure) next).exception;
+                        throw e instanceof ArangoDBException ? (ArangoDBException) e : new ArangoDBException(e);
+                    } else {
+                        @SuppressWarnings("unchecked") final List<T> results = (List<T>) next;
+                        batch = results;
+                        pos = 0;
+                    }
+                }
+                action.accept(batch.get(pos++));
+                return true;
+            }
+        };
+    }
+
+    private Object take() {
+        try {
+            return queue.take();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private void close() {
+        closed = true;
+        pool.shutdownNow();
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.model.AqlQueryOptions;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * {@link ArangoCursorExecute} which requests the following batches of a cursor in the background, so the consumer
+ * does not wait for a round trip after every batch. Each batch is requested after the previous one arrived, with the
+ * meta data of the previous one, and at most the configured number of batches is fetched ahead of the consumer.
+ *
+ * <p>
+ * Like the cursor itself, an instance must only be used by one thread at a time.
+ * </p>
+ */
+public class PrefetchingCursorExecute implements ArangoCursorExecute {
+
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "arangodb-cursor-prefetch");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ArangoCursorExecute execute;
+    private final String id;
+    private final int depth;
+    private final Deque<CompletableFuture<CursorEntity>> pending = new ArrayDeque<>();
+    private CompletableFuture<CursorEntity> last;
+    private volatile boolean closed;
+
+    private PrefetchingCursorExecute(final ArangoCursorExecute execute, final CursorEntity first, final int depth) {
+        super();
+        this.execute = execute;
+        this.id = first.getId();
+        this.depth = depth;
+        last = CompletableFuture.completedFuture(first);
+        prefetch();
+    }
+
+    /**
+     * @param execute the executor of the cursor requests
+     * @param first   the first batch of the cursor
+     * @param options the options of the query, may be {@code null}
+     * @return a prefetching executor if prefetching is enabled and the cursor has more batches, otherwise the given
+     * executor
+     */
+    public static ArangoCursorExecute wrap(
+            final ArangoCursorExecute execute,
+            final CursorEntity first,
+            final AqlQueryOptions options) {
+        final Integer prefetch = options != null ? options.getPrefetch() : null;
+        if (prefetch == null || prefetch < 1 || options.getStreamTransactionId() != null || first.getId() == null
+                || Boolean.TRUE != first.getHasMore()) {
+            return execute;
+        }
+        return new PrefetchingCursorExecute(execute, first, prefetch);
+    }
+
+    /**
+     * Returns the next prefetched batch. The given meta data is ignored, the batches are requested with the meta data
+     * of the batch before them.
+     */
+    @Override
+    public CursorEntity next(final String id, final Map<String, String> meta) throws ArangoDBException {
+        final CompletableFuture<CursorEntity> batch = pending.poll();
+        try {
+            return await(batch);
+        } finally {
+            prefetch();
+        }
+    }
+
+    /**
+     * Waits for the request which is in flight, if any, and closes the cursor on the server with the meta data of the
+     * latest batch if it has more batches. Prefetches which have not started yet are skipped.
+     */
+    @Override
+    public void close(final String id, final Map<String, String> meta) throws ArangoDBException {
+        closed = true;
+        pending.clear();
+        CursorEntity latest;
+        try {
+            latest = await(last);
+        } catch (final ArangoDBException e) {
+            latest = null;
+        }
+        if (latest == null) {
+            // state of the server cursor is unknown after a failed request
+            execute.close(id, meta);
+        } else if (Boolean.TRUE == latest.getHasMore()) {
+            execute.close(id, latest.getMeta());
+        }
+    }
+
+    private void prefetch() {
+        while (pending.size() < depth) {
+            last = last.thenApplyAsync(this::fetch, PREFETCH_EXECUTOR);
+            pending.add(last);
+        }
+    }
+
+    private CursorEntity fetch(final CursorEntity previous) {
+        // once the cursor is exhausted or closed the last batch is passed on, so the tail of the chain is always the
+        // latest batch
+        return !closed && Boolean.TRUE == previous.getHasMore() ? execute.next(id, previous.getMeta()) : previous;
+    }
+
+    private static CursorEntity await(final CompletableFuture<CursorEntity> batch) {
+        try {
+            return batch.join();
+        } catch (final CompletionException | CancellationException e) {
+            final Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ArangoDBException) {
+                throw (ArangoDBException) cause;
+            }
+            throw new ArangoDBException(cause);
+        }
+    }
+
+}
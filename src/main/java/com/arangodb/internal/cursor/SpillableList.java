@@ -0,0 +1,239 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackSlice;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+
+/**
+ * Immutable list over raw VelocyPack results, which decodes an element on every access. The batches are kept on the
+ * heap up to a budget of raw bytes. The elements of the following batches are written to a temporary file, which is
+ * memory-mapped and then deleted, so the operating system reclaims its space once the list is garbage collected. Only
+ * the offsets of the spilled elements remain on the heap.
+ *
+ * @param <T> the type of the elements
+ */
+class SpillableList<T> extends AbstractList<T> implements RandomAccess {
+
+    private static final long DEFAULT_CHUNK_SIZE = 1L << 30;
+
+    private final Function<VPackSlice, T> decoder;
+    private final VPackSlice[] batches;
+    private final int[] batchEnds;
+    private final int heapSize;
+    private final long[] offsets;
+    private final MappedByteBuffer[] chunks;
+    private final long[] chunkStarts;
+    private final int size;
+
+    private SpillableList(final Builder<T> builder, final MappedByteBuffer[] chunks, final long[] chunkStarts) {
+        super();
+        decoder = builder.decoder;
+        batches = builder.batches.toArray(new VPackSlice[0]);
+        batchEnds = Arrays.copyOf(builder.batchEnds, batches.length);
+        heapSize = builder.heapSize;
+        offsets = Arrays.copyOf(builder.offsets, builder.spilled + 1);
+        this.chunks = chunks;
+        this.chunkStarts = chunkStarts;
+        size = heapSize + builder.spilled;
+    }
+
+    @Override
+    public T get(final int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        if (index < heapSize) {
+            final int batch = find(batchEnds, index + 1);
+            return decoder.apply(batches[batch].get(batch == 0 ? index : index - batchEnds[batch - 1]));
+        }
+        final int element = index - heapSize;
+        final long from = offsets[element];
+        final int chunk = find(chunkStarts, from);
+        final ByteBuffer buffer = chunks[chunk].duplicate();
+        buffer.position((int) (from - chunkStarts[chunk]));
+        final byte[] bytes = new byte[(int) (offsets[element + 1] - from)];
+        buffer.get(bytes);
+        return decoder.apply(new VPackSlice(bytes));
+    }
+
+    /**
+     * @return index of the first batch ending at or after the given element count
+     */
+    private static int find(final int[] ends, final int count) {
+        final int i = Arrays.binarySearch(ends, count);
+        return i >= 0 ? i : -i - 1;
+    }
+
+    /**
+     * @return index of the last chunk starting at or before the given offset
+     */
+    private static int find(final long[] starts, final long offset) {
+        final int i = Arrays.binarySearch(starts, offset);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    static final class Builder<T> implements Closeable {
+
+        private final long heapBudget;
+        private final long chunkSize;
+        private final Function<VPackSlice, T> decoder;
+        private final List<VPackSlice> batches = new ArrayList<>();
+        private int[] batchEnds = new int[16];
+        private int heapSize;
+        private long heapBytes;
+        private FileChannel channel;
+        private long[] offsets = new long[1024];
+        private int spilled;
+
+        /**
+         * @param heapBudget maximum number of raw bytes kept on the heap
+         * @param decoder    decodes an element on access
+         */
+        Builder(final long heapBudget, final Function<VPackSlice, T> decoder) {
+            this(heapBudget, DEFAULT_CHUNK_SIZE, decoder);
+        }
+
+        Builder(final long heapBudget, final long chunkSize, final Function<VPackSlice, T> decoder) {
+            super();
+            this.heapBudget = heapBudget;
+            this.chunkSize = chunkSize;
+            this.decoder = decoder;
+        }
+
+        /**
+         * @param batch VelocyPack array of results
+         */
+        void add(final VPackSlice batch) {
+            final int count = batch.size();
+            if (count == 0) {
+                return;
+            }
+            if (channel == null && heapBytes + batch.getByteSize() <= heapBudget) {
+                if (batches.size() == batchEnds.length) {
+                    batchEnds = Arrays.copyOf(batchEnds, batchEnds.length * 2);
+                }
+                heapSize += count;
+                batchEnds[batches.size()] = heapSize;
+                batches.add(batch);
+                heapBytes += batch.getByteSize();
+                return;
+            }
+            try {
+                spill(batch, count);
+            } catch (final IOException e) {
+                throw new ArangoDBException(e);
+            }
+        }
+
+        private void spill(final VPackSlice batch, final int count) throws IOException {
+            if (channel == null) {
+                final Path file = Files.createTempFile("arangodb-cursor", ".vpack");
+                channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                        StandardOpenOption.DELETE_ON_CLOSE);
+            }
+            if (spilled + count >= offsets.length) {
+                offsets = Arrays.copyOf(offsets, Math.max(offsets.length * 2, spilled + count + 1));
+            }
+            // the elements are stored back to back, so they are written with one call and only their offsets are
+            // computed one by one
+            final VPackSlice first = batch.get(0);
+            final long position = offsets[spilled];
+            VPackSlice element = first;
+            for (int i = 0; i < count; i++, element = ArangoCursorIterator.following(element)) {
+                offsets[spilled + i + 1] = position + element.getStart() + element.getByteSize() - first.getStart();
+            }
+            spilled += count;
+            final ByteBuffer bytes = ByteBuffer.wrap(first.getBuffer(), first.getStart(),
+                    (int) (offsets[spilled] - position));
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+
+        SpillableList<T> build() {
+            if (channel == null) {
+                return new SpillableList<>(this, new MappedByteBuffer[0], new long[0]);
+            }
+            try {
+                final List<MappedByteBuffer> chunks = new ArrayList<>();
+                final List<Long> starts = new ArrayList<>();
+                long start = 0;
+                for (int i = 0; i < spilled; i++) {
+                    // chunks end at element boundaries, so every element is read from a single chunk
+                    if (offsets[i + 1] - start > chunkSize && offsets[i] > start) {
+                        chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, offsets[i] - start));
+                        starts.add(start);
+                        start = offsets[i];
+                    }
+                }
+                chunks.add(channel.map(FileChannel.MapMode.READ_ONLY, start, offsets[spilled] - start));
+                starts.add(start);
+                final long[] chunkStarts = new long[starts.size()];
+                for (int i = 0; i < chunkStarts.length; i++) {
+                    chunkStarts[i] = starts.get(i);
+                }
+                return new SpillableList<>(this, chunks.toArray(new MappedByteBuffer[0]), chunkStarts);
+            } catch (final IOException e) {
+                throw new ArangoDBException(e);
+            } finally {
+                close();
+            }
+        }
+
+        /**
+         * Closes and deletes the temporary file. Mappings of it stay valid.
+         */
+        @Override
+        public void close() {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (final IOException e) {
+                    throw new ArangoDBException(e);
+                } finally {
+                    channel = null;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.Protocol;
+import com.arangodb.internal.net.Connection;
+import com.arangodb.internal.net.ConnectionFactory;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.JwtAuthentication;
+import com.arangodb.util.ArangoSerialization;
+
+import javax.net.ssl.SSLContext;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * Creates HTTP/2 connections backed by the JDK 11 {@code java.net.http.HttpClient}.
+ * <p>
+ * The connection implementation is compiled for Java 11 and is looked up reflectively, so that the driver keeps
+ * running on Java 8 as long as no HTTP/2 protocol is requested.
+ */
+public class Http2ConnectionFactory implements ConnectionFactory {
+
+    private static final String CONNECTION_CLASS = "com.arangodb.internal.http.Http2Connection";
+    private static final Constructor<? extends Connection> CONSTRUCTOR = lookupConstructor();
+
+    private final HttpConnection.Builder builder;
+
+    public Http2ConnectionFactory(final Integer timeout, final String user, final String password, final Boolean useSsl,
+                                  final SSLContext sslContext, final ArangoSerialization util, final Protocol protocol,
+                                  final Long connectionTtl, final String path, final Boolean acceptCompression,
+                                  final Integer compressionThreshold, final JwtAuthentication jwt) {
+        super();
+        if (CONSTRUCTOR == null) {
+            throw new ArangoDBException(String.format("Protocol %s requires Java 11 or later", protocol));
+        }
+        builder = new HttpConnection.Builder().timeout(timeout).user(user).password(password).useSsl(useSsl).path(path)
+                .sslContext(sslContext).serializationUtil(util).contentType(protocol).ttl(connectionTtl)
+                .acceptCompression(acceptCompression).compressionThreshold(compressionThreshold).jwt(jwt);
+    }
+
+    private static Constructor<? extends Connection> lookupConstructor() {
+        try {
+            return Class.forName(CONNECTION_CLASS).asSubclass(Connection.class)
+                    .getConstructor(HttpConnection.Builder.class);
+        } catch (final ClassNotFoundException | NoSuchMethodException | LinkageError e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Connection create(final HostDescription host) {
+        try {
+            return CONSTRUCTOR.newInstance(builder.host(host));
+        } catch (final InstantiationException | IllegalAccessException e) {
+            throw new ArangoDBException(e);
+        } catch (final InvocationTargetException e) {
+            final Throwable cause = e.getCause();
+            throw cause instanceof ArangoDBException ? (ArangoDBException) cause : new ArangoDBException(cause);
+        }
+    }
+
+}
@@ -77,7 +77,7 @@ public class HttpCommunication implements Closeable {
         try {
             while (true) {
                 try {
-                    final HttpConnection connection = (HttpConnection) host.connection();
+                    final HttpRequestExecutor connection = (HttpRequestExecutor) host.connection();
                     final Response response = connection.execute(request);
                     hostHandler.success();
                     hostHandler.confirm();
@@ -21,12 +21,14 @@
 package com.arangodb.internal.http;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import javax.net.ssl.SSLContext;
 
@@ -34,11 +36,12 @@ import org.apache.http.Header;
 import org.apache.http.HeaderElement;
 import org.apache.http.HeaderElementIterator;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.HttpHost;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
 import org.apache.http.NameValuePair;
 import org.apache.http.auth.AuthScope;
-import org.apache.http.auth.AuthenticationException;
 import org.apache.http.auth.Credentials;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
@@ -57,16 +60,17 @@ import org.apache.http.conn.ConnectionKeepAliveStrategy;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.entity.AbstractHttpEntity;
 import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.DefaultHttpRequestRetryHandler;
 import org.apache.http.impl.client.HttpClientBuilder;
 import org.apache.http.impl.client.ProxyAuthenticationStrategy;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicHeaderElementIterator;
 import org.apache.http.message.BasicNameValuePair;
 import org.apache.http.protocol.HTTP;
@@ -76,14 +80,16 @@ import org.slf4j.LoggerFactory;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.Protocol;
-import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.JwtAuthentication;
 import com.arangodb.internal.net.ProxyDescription;
 import com.arangodb.internal.util.CURLLogger;
+import com.arangodb.internal.util.DirectByteArrayOutputStream;
 import com.arangodb.internal.util.IOUtils;
 import com.arangodb.internal.util.ResponseUtils;
+import com.arangodb.internal.velocypack.VPackJsonConverter;
 import com.arangodb.util.ArangoSerialization;
-import com.arangodb.util.ArangoSerializer.Options;
+import com.arangodb.util.RawJson;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Request;
 import com.arangodb.velocystream.Response;
@@ -91,26 +97,30 @@ import com.arangodb.velocystream.Response;
 /**
  * @author Mark Vollmary
  */
-public class HttpConnection implements Connection {
+public class HttpConnection implements HttpRequestExecutor {
 
 	private static final Logger LOGGER = LoggerFactory.getLogger(HttpCommunication.class);
 	private static final ContentType CONTENT_TYPE_APPLICATION_JSON_UTF8 = ContentType.create("application/json",
 			"utf-8");
 	private static final ContentType CONTENT_TYPE_VPACK = ContentType.create("application/x-velocypack");
+	private static final String CONTENT_ENCODING_GZIP = "gzip";
 
 	public static class Builder {
-		private String user;
-		private String password;
-		private ArangoSerialization util;
-		private Boolean useSsl;
-		private String httpCookieSpec;
-		private Protocol contentType;
-		private HostDescription host;
-		private String path = "";
-
-		private Long ttl;
-		private SSLContext sslContext;
-		private Integer timeout;
+		String user;
+		String password;
+		ArangoSerialization util;
+		Boolean useSsl;
+		String httpCookieSpec;
+		Protocol contentType;
+		HostDescription host;
+		String path = "";
+
+		Long ttl;
+		SSLContext sslContext;
+		Integer timeout;
+		Boolean acceptCompression;
+		Integer compressionThreshold;
+		JwtAuthentication jwt;
 
 		public Builder user(final String user) {
 			this.user = user;
@@ -167,31 +177,60 @@ public class HttpConnection implements Connection {
 			return this;
 		}
 
+		public Builder acceptCompression(final Boolean acceptCompression) {
+			this.acceptCompression = acceptCompression;
+			return this;
+		}
+
+		public Builder compressionThreshold(final Integer compressionThreshold) {
+			this.compressionThreshold = compressionThreshold;
+			return this;
+		}
+
+		public Builder jwt(final JwtAuthentication jwt) {
+			this.jwt = jwt;
+			return this;
+		}
+
 		public HttpConnection build() {
 			return new HttpConnection(this.host, this.path, this.timeout, this.user, this.password, this.useSsl,
-					this.sslContext, this.util, this.contentType, this.ttl, this.httpCookieSpec);
+					this.sslContext, this.util, this.contentType, this.ttl, this.httpCookieSpec,
+					this.acceptCompression, this.compressionThreshold, this.jwt);
 		}
 	}
 
 	private final PoolingHttpClientConnectionManager cm;
 	private final CloseableHttpClient client;
-	private final String user;
-	private final String password;
+	private final Credentials credentials;
+	private final Header authorization;
+	private final JwtAuthentication jwt;
 	private final ArangoSerialization util;
 	private final Boolean useSsl;
 	private final Protocol contentType;
 	private final String baseUrl;
+	private final Integer compressionThreshold;
 
 	private HttpConnection(final HostDescription host, final String path, final Integer timeout, final String user,
 			final String password, final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
-			final Protocol contentType, final Long ttl, final String httpCookieSpec) {
+			final Protocol contentType, final Long ttl, final String httpCookieSpec, final Boolean acceptCompression,
+			final Integer compressionThreshold, final JwtAuthentication jwt) {
 		super();
 		this.baseUrl = buildBaseUrl(host, path);
-		this.user = user;
-		this.password = password;
+		this.jwt = user != null ? jwt : null;
+		if (user != null && jwt == null) {
+			// the header never changes, so it is encoded only once
+			this.credentials = new UsernamePasswordCredentials(user, password != null ? password : "");
+			final String value = user + ":" + (password != null ? password : "");
+			this.authorization = new BasicHeader(HttpHeaders.AUTHORIZATION,
+					"Basic " + Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8)));
+		} else {
+			this.credentials = null;
+			this.authorization = null;
+		}
 		this.useSsl = useSsl;
 		this.util = util;
 		this.contentType = contentType;
+		this.compressionThreshold = compressionThreshold;
 		final RegistryBuilder<ConnectionSocketFactory> registryBuilder = RegistryBuilder.create();
 		registryBuilder.register("http", new PlainConnectionSocketFactory());
 		if (Boolean.TRUE == useSsl) {
@@ -236,6 +275,9 @@ public class HttpConnection implements Connection {
 		if (ttl != null) {
 			builder.setConnectionTimeToLive(ttl, TimeUnit.MILLISECONDS);
 		}
+		if (Boolean.FALSE == acceptCompression) {
+			builder.disableContentCompression();
+		}
 		this.client = builder.build();
 	}
 
@@ -284,7 +326,7 @@ public class HttpConnection implements Connection {
 		return sb.toString();
 	}
 
-	private HttpRequestBase buildHttpRequestBase(final Request request, final String url) {
+	private HttpRequestBase buildHttpRequestBase(final Request request, final String url) throws IOException {
 		final HttpRequestBase httpRequest;
 		switch (request.getRequestType()) {
 		case POST:
@@ -310,27 +352,48 @@ public class HttpConnection implements Connection {
 		return httpRequest;
 	}
 
-	private HttpRequestBase requestWithBody(final HttpEntityEnclosingRequestBase httpRequest, final Request request) {
-
-		final String jsonBody = request.getJsonBody();
+	private HttpRequestBase requestWithBody(final HttpEntityEnclosingRequestBase httpRequest, final Request request)
+			throws IOException {
 
+		final AbstractHttpEntity entity;
 		if (this.contentType == Protocol.HTTP_VPACK) {
 			VPackSlice body = request.getBody();
-			if (body == null && jsonBody != null) {
-				body = this.util.serialize(jsonBody);
-			}
-			if (body != null) {
-				httpRequest.setEntity(new ByteArrayEntity(
-						Arrays.copyOfRange(body.getBuffer(), body.getStart(), body.getStart() + body.getByteSize()),
-						CONTENT_TYPE_VPACK));
+			if (body == null && request.hasJsonBody()) {
+				body = this.util.serialize(request.getJsonBody());
 			}
+			entity = body != null ? new VPackEntity(body, CONTENT_TYPE_VPACK) : null;
+		} else if (request.getRawJsonBody() != null) {
+			final RawJson json = request.getRawJsonBody();
+			entity = new ByteArrayEntity(json.getBuffer(), json.getOffset(), json.getLength(),
+					CONTENT_TYPE_APPLICATION_JSON_UTF8);
+		} else if (request.getBody() != null && !request.hasJsonBody()) {
+			final DirectByteArrayOutputStream json = new DirectByteArrayOutputStream(request.getBody().getByteSize());
+			VPackJsonConverter.toJson(request.getBody(), json, true);
+			entity = new ByteArrayEntity(json.getBuffer(), 0, json.size(), CONTENT_TYPE_APPLICATION_JSON_UTF8);
 		} else {
-			httpRequest.setEntity(new StringEntity(jsonBody, CONTENT_TYPE_APPLICATION_JSON_UTF8));
+			entity = new StringEntity(request.getJsonBody(), CONTENT_TYPE_APPLICATION_JSON_UTF8);
+		}
+		if (entity != null) {
+			httpRequest.setEntity(compress(entity));
 		}
 
 		return httpRequest;
 	}
 
+	private AbstractHttpEntity compress(final AbstractHttpEntity entity) throws IOException {
+		if (this.compressionThreshold == null || entity.getContentLength() < this.compressionThreshold) {
+			return entity;
+		}
+		final DirectByteArrayOutputStream compressed = new DirectByteArrayOutputStream();
+		try (final GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+			entity.writeTo(out);
+		}
+		final ByteArrayEntity compressedEntity = new ByteArrayEntity(compressed.getBuffer(), 0, compressed.size());
+		compressedEntity.setContentType(entity.getContentType());
+		compressedEntity.setContentEncoding(CONTENT_ENCODING_GZIP);
+		return compressedEntity;
+	}
+
 	private String buildBaseUrl(final HostDescription host, final String path) {
 		final StringBuilder sb = new StringBuilder();
 		if (Boolean.TRUE == this.useSsl) {
@@ -360,6 +423,7 @@ public class HttpConnection implements Connection {
 		return paramList;
 	}
 
+	@Override
 	public Response execute(final Request request) throws ArangoDBException, IOException {
 		final String url = buildUrl(this.baseUrl, request);
 		final HttpRequestBase httpRequest = buildHttpRequestBase(request, url);
@@ -368,12 +432,18 @@ public class HttpConnection implements Connection {
 			httpRequest.setHeader("Accept", "application/x-velocypack");
 		}
 		addHeader(request, httpRequest);
-		final Credentials credentials = addCredentials(httpRequest);
+		final String token = addCredentials(httpRequest);
 		if (LOGGER.isDebugEnabled()) {
-			CURLLogger.log(url, request, credentials, this.util);
+			CURLLogger.log(url, request, this.credentials, this.util);
 		}
 		Response response;
 		response = buildResponse(this.client.execute(httpRequest));
+		if (token != null && response.getResponseCode() == HttpStatus.SC_UNAUTHORIZED) {
+			// the token was rejected (e.g. after a server restart), retry once with a fresh one
+			this.jwt.invalidate(token);
+			addCredentials(httpRequest);
+			response = buildResponse(this.client.execute(httpRequest));
+		}
 		checkError(response);
 		return response;
 	}
@@ -384,17 +454,31 @@ public class HttpConnection implements Connection {
 		}
 	}
 
-	public Credentials addCredentials(final HttpRequestBase httpRequest) {
-		Credentials credentials = null;
-		if (this.user != null) {
-			credentials = new UsernamePasswordCredentials(this.user, this.password != null ? this.password : "");
-			try {
-				httpRequest.addHeader(new BasicScheme().authenticate(credentials, httpRequest, null));
-			} catch (final AuthenticationException e) {
-				throw new ArangoDBException(e);
-			}
+	/**
+	 * @return the JWT {@code Authorization} header value, if JWT authentication is used
+	 */
+	private String addCredentials(final HttpRequestBase httpRequest) {
+		if (this.jwt != null) {
+			final String token = this.jwt.getAuthorization(this::executeUnauthenticated);
+			httpRequest.setHeader(HttpHeaders.AUTHORIZATION, token);
+			return token;
+		}
+		if (this.authorization != null) {
+			httpRequest.setHeader(this.authorization);
 		}
-		return credentials;
+		return null;
+	}
+
+	private Response executeUnauthenticated(final Request request) throws IOException {
+		final String url = buildUrl(this.baseUrl, request);
+		final HttpRequestBase httpRequest = buildHttpRequestBase(request, url);
+		httpRequest.setHeader("User-Agent", "Mozilla/5.0 (compatible; ArangoDB-JavaDriver/1.1; +http://mt.orz.at/)");
+		if (this.contentType == Protocol.HTTP_VPACK) {
+			httpRequest.setHeader("Accept", "application/x-velocypack");
+		}
+		final Response response = buildResponse(this.client.execute(httpRequest));
+		checkError(response);
+		return response;
 	}
 
 	public Response buildResponse(final CloseableHttpResponse httpResponse)
@@ -403,15 +487,12 @@ public class HttpConnection implements Connection {
 		response.setResponseCode(httpResponse.getStatusLine().getStatusCode());
 		final HttpEntity entity = httpResponse.getEntity();
 		if (entity != null && entity.getContent() != null) {
-			if (this.contentType == Protocol.HTTP_VPACK) {
-				final byte[] content = IOUtils.toByteArray(entity.getContent());
-				if (content.length > 0) {
+			final byte[] content = IOUtils.toByteArray(entity.getContent(), entity.getContentLength());
+			if (content.length > 0) {
+				if (this.contentType == Protocol.HTTP_VPACK) {
 					response.setBody(new VPackSlice(content));
-				}
-			} else {
-				final String content = IOUtils.toString(entity.getContent());
-				if (!content.isEmpty()) {
-					response.setJsonBody(content, b->this.util.serialize(b, new Options().stringAsJson(true).serializeNullValues(true)));
+				} else {
+					response.setBody(VPackJsonConverter.fromJson(content, 0, content.length, true));
 				}
 			}
 		}
@@ -24,6 +24,7 @@ import com.arangodb.Protocol;
 import com.arangodb.internal.net.Connection;
 import com.arangodb.internal.net.ConnectionFactory;
 import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.JwtAuthentication;
 import com.arangodb.util.ArangoSerialization;
 
 import javax.net.ssl.SSLContext;
@@ -37,10 +38,13 @@ public class HttpConnectionFactory implements ConnectionFactory {
 
     public HttpConnectionFactory(final Integer timeout, final String user, final String password, final Boolean useSsl,
                                  final SSLContext sslContext, final ArangoSerialization util, final Protocol protocol,
-                                 final Long connectionTtl, final String httpCookieSpec, final String path) {
+                                 final Long connectionTtl, final String httpCookieSpec, final String path,
+                                 final Boolean acceptCompression, final Integer compressionThreshold,
+                                 final JwtAuthentication jwt) {
         super();
         builder = new HttpConnection.Builder().timeout(timeout).user(user).password(password).useSsl(useSsl).path(path)
-                .sslContext(sslContext).serializationUtil(util).contentType(protocol).ttl(connectionTtl).httpCookieSpec(httpCookieSpec);
+                .sslContext(sslContext).serializationUtil(util).contentType(protocol).ttl(connectionTtl).httpCookieSpec(httpCookieSpec)
+                .acceptCompression(acceptCompression).compressionThreshold(compressionThreshold).jwt(jwt);
 
     }
 
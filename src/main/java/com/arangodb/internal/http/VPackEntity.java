@@ -0,0 +1,75 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.velocypack.VPackSlice;
+import org.apache.http.entity.AbstractHttpEntity;
+import org.apache.http.entity.ContentType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Repeatable entity writing a {@link VPackSlice} directly from its backing array, without copying it.
+ */
+public class VPackEntity extends AbstractHttpEntity {
+
+    private final byte[] buffer;
+    private final int offset;
+    private final int length;
+
+    public VPackEntity(final VPackSlice slice, final ContentType contentType) {
+        super();
+        this.buffer = slice.getBuffer();
+        this.offset = slice.getStart();
+        this.length = slice.getByteSize();
+        setContentType(contentType.toString());
+    }
+
+    @Override
+    public boolean isRepeatable() {
+        return true;
+    }
+
+    @Override
+    public long getContentLength() {
+        return length;
+    }
+
+    @Override
+    public InputStream getContent() {
+        return new ByteArrayInputStream(buffer, offset, length);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outstream) throws IOException {
+        outstream.write(buffer, offset, length);
+        outstream.flush();
+    }
+
+    @Override
+    public boolean isStreaming() {
+        return false;
+    }
+
+}
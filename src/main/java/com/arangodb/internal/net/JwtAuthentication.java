@@ -0,0 +1,192 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.internal.ArangoRequestParam;
+import com.arangodb.internal.velocypack.VPackJsonConverter;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocypack.exception.VPackException;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Obtains a JSON Web Token from {@code /_open/auth} and shares it between all connections of one driver instance. The
+ * token is requested once and refreshed in the background shortly before it expires, so requests only block on the
+ * token endpoint when there is no valid token at all.
+ */
+public class JwtAuthentication {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JwtAuthentication.class);
+    private static final String PATH_API_AUTH = "/_open/auth";
+
+    private static final ExecutorService REFRESH_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final Thread thread = new Thread(r, "arangodb-jwt-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Sends the token request, usually through the connection which needs the token.
+     */
+    public interface TokenRequester {
+        Response execute(Request request) throws IOException;
+    }
+
+    private static final class Token {
+        private final String jwt;
+        private final String authorization;
+        private final long expiresAt;
+
+        private Token(final String jwt, final long expiresAt) {
+            this.jwt = jwt;
+            this.authorization = "bearer " + jwt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final String user;
+    private final String password;
+    private final long refreshMargin;
+    private final AtomicBoolean refreshing = new AtomicBoolean(false);
+    private volatile Token token;
+
+    /**
+     * @param user          the user to authenticate
+     * @param password      the password of the user
+     * @param refreshMargin time in milliseconds before expiration at which a token is refreshed
+     */
+    public JwtAuthentication(final String user, final String password, final long refreshMargin) {
+        super();
+        this.user = user;
+        this.password = password != null ? password : "";
+        this.refreshMargin = refreshMargin;
+    }
+
+    /**
+     * @param requester used to request a new token if necessary
+     * @return the raw token
+     */
+    public String getToken(final TokenRequester requester) {
+        return currentToken(requester).jwt;
+    }
+
+    /**
+     * @param requester used to request a new token if necessary
+     * @return the value of the {@code Authorization} header
+     */
+    public String getAuthorization(final TokenRequester requester) {
+        return currentToken(requester).authorization;
+    }
+
+    /**
+     * Discards the given token after the server rejected it. A newer token which already replaced it is kept.
+     *
+     * @param rejected the rejected token or the value of the rejected {@code Authorization} header
+     */
+    public synchronized void invalidate(final String rejected) {
+        final Token current = token;
+        if (current != null && (current.jwt.equals(rejected) || current.authorization.equals(rejected))) {
+            token = null;
+        }
+    }
+
+    private Token currentToken(final TokenRequester requester) {
+        final Token current = token;
+        final long now = System.currentTimeMillis();
+        if (current == null || now >= current.expiresAt) {
+            return refresh(requester, current);
+        }
+        if (now >= current.expiresAt - refreshMargin && refreshing.compareAndSet(false, true)) {
+            REFRESH_EXECUTOR.execute(() -> {
+                try {
+                    refresh(requester, current);
+                } catch (final RuntimeException e) {
+                    LOGGER.debug("Background refresh of JWT failed", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        }
+        return current;
+    }
+
+    private synchronized Token refresh(final TokenRequester requester, final Token expected) {
+        if (token != expected) {
+            // refreshed concurrently
+            return token != null ? token : refresh(requester, null);
+        }
+        final Token refreshed = requestToken(requester);
+        token = refreshed;
+        return refreshed;
+    }
+
+    private Token requestToken(final TokenRequester requester) {
+        final Request request = new Request(ArangoRequestParam.SYSTEM, RequestType.POST, PATH_API_AUTH);
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add("username", user);
+        builder.add("password", password);
+        builder.close();
+        request.setBody(builder.slice());
+        final Response response;
+        try {
+            response = requester.execute(request);
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+        final VPackSlice jwt = response.getBody() != null ? response.getBody().get("jwt") : null;
+        if (jwt == null || !jwt.isString()) {
+            throw new ArangoDBException("Response from " + PATH_API_AUTH + " does not contain a token");
+        }
+        final String value = jwt.getAsString();
+        return new Token(value, expiresAt(value));
+    }
+
+    /**
+     * @return the {@code exp} claim of the token in milliseconds or {@link Long#MAX_VALUE} if it has none
+     */
+    static long expiresAt(final String jwt) {
+        final String[] parts = jwt.split("\\.");
+        if (parts.length < 2) {
+            return Long.MAX_VALUE;
+        }
+        try {
+            final byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            final VPackSlice exp = VPackJsonConverter.fromJson(payload, 0, payload.length, true).get("exp");
+            return exp.isNumber() ? Math.round(exp.getAsDouble() * 1000d) : Long.MAX_VALUE;
+        } catch (final IllegalArgumentException | ArangoDBException | VPackException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+}
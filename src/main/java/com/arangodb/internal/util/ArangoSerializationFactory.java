@@ -37,7 +37,7 @@ public class ArangoSerializationFactory {
     public ArangoSerializationFactory(final ArangoSerialization interal, final ArangoSerialization custom) {
         super();
         this.interal = interal;
-        this.custom = custom;
+        this.custom = new RawPassthroughSerialization(custom);
     }
 
     public ArangoSerialization get(final Serializer serializer) {
@@ -23,11 +23,11 @@ package com.arangodb.internal.util;
 import com.arangodb.ArangoDBException;
 import com.arangodb.util.ArangoSerializer;
 import com.arangodb.velocypack.VPack;
-import com.arangodb.velocypack.VPack.SerializeOptions;
 import com.arangodb.velocypack.VPackParser;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.exception.VPackException;
 
+import java.lang.reflect.Type;
 import java.util.Iterator;
 
 /**
@@ -35,6 +35,8 @@ import java.util.Iterator;
  */
 public class ArangoSerializerImpl implements ArangoSerializer {
 
+    private static final Options DEFAULT_OPTIONS = new Options();
+
     private final VPack vpacker;
     private final VPack vpackerNull;
     private final VPackParser vpackParser;
@@ -48,18 +50,17 @@ public class ArangoSerializerImpl implements ArangoSerializer {
 
     @Override
     public VPackSlice serialize(final Object entity) throws ArangoDBException {
-        return serialize(entity, new ArangoSerializer.Options());
+        return serialize(entity, DEFAULT_OPTIONS);
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public VPackSlice serialize(final Object entity, final Options options) throws ArangoDBException {
-        if (options.getType() == null) {
-            options.type(entity.getClass());
-        }
         try {
             final VPackSlice vpack;
             final Class<?> type = entity.getClass();
+            // the options may be shared between calls, so the default type is not written back
+            final Type serializeType = options.getType() != null ? options.getType() : type;
             final boolean serializeNullValues = options.isSerializeNullValues();
             if (String.class.isAssignableFrom(type)) {
                 vpack = vpackParser.fromJson((String) entity, serializeNullValues);
@@ -69,13 +70,11 @@ public class ArangoSerializerImpl implements ArangoSerializer {
                     vpack = vpackParser.fromJson((Iterable<String>) entity, serializeNullValues);
                 } else {
                     final VPack vp = serializeNullValues ? vpackerNull : vpacker;
-                    vpack = vp.serialize(entity,
-                            new SerializeOptions().type(options.getType()).additionalFields(options.getAdditionalFields()));
+                    vpack = vp.serialize(entity, serializeType, options.getAdditionalFields());
                 }
             } else {
                 final VPack vp = serializeNullValues ? vpackerNull : vpacker;
-                vpack = vp.serialize(entity,
-                        new SerializeOptions().type(options.getType()).additionalFields(options.getAdditionalFields()));
+                vpack = vp.serialize(entity, serializeType, options.getAdditionalFields());
             }
             return vpack;
         } catch (final VPackException e) {
@@ -0,0 +1,43 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * {@link ByteArrayOutputStream} giving access to its internal buffer, so that the written bytes can be used without
+ * copying them. Only the first {@link #size()} bytes of {@link #getBuffer()} are valid.
+ */
+public class DirectByteArrayOutputStream extends ByteArrayOutputStream {
+
+    public DirectByteArrayOutputStream() {
+        super();
+    }
+
+    public DirectByteArrayOutputStream(final int size) {
+        super(size);
+    }
+
+    public byte[] getBuffer() {
+        return buf;
+    }
+
+}
@@ -62,6 +62,34 @@ public final class IOUtils {
         }
     }
 
+    /**
+     * Reads the whole stream. If the content length is known, the content is read directly into a buffer of that size.
+     *
+     * @param input         stream to read
+     * @param contentLength expected number of bytes or a negative value if unknown
+     * @return the content of the stream
+     * @throws IOException
+     */
+    public static byte[] toByteArray(final InputStream input, final long contentLength) throws IOException {
+        if (contentLength < 0 || contentLength > Integer.MAX_VALUE) {
+            return toByteArray(input);
+        }
+        final byte[] content = new byte[(int) contentLength];
+        int offset = 0;
+        int nRead;
+        while (offset < content.length && (nRead = input.read(content, offset, content.length - offset)) != -1) {
+            offset += nRead;
+        }
+        if (offset < content.length) {
+            throw new EOFException(
+                    String.format("Premature end of stream: expected %s bytes, read %s", content.length, offset));
+        }
+        if (input.read() != -1) {
+            throw new IOException(String.format("Stream exceeds content length of %s bytes", content.length));
+        }
+        return content;
+    }
+
     public static byte[] toByteArray(final InputStream input) throws IOException {
         final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
         int nRead;
@@ -0,0 +1,123 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.internal.velocypack.VPackJsonConverter;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Reads JSON lines from a stream and returns them in batches of VelocyPack arrays. Batches are cut at the first line
+ * break after {@code batchSize} bytes of JSON, so only a bounded part of the input is held in memory.
+ */
+public class JsonLinesReader {
+
+    private static final int READ_AHEAD = 64 * 1024;
+
+    private final InputStream in;
+    private final int batchSize;
+    private byte[] buffer;
+    private int start;
+    private int end;
+    private boolean eof;
+
+    /**
+     * @param in        the stream to read, it is not closed by this reader
+     * @param batchSize minimal number of JSON bytes per batch, unless the end of the stream is reached
+     */
+    public JsonLinesReader(final InputStream in, final int batchSize) {
+        super();
+        this.in = in;
+        this.batchSize = Math.max(1, batchSize);
+        buffer = new byte[this.batchSize + READ_AHEAD];
+    }
+
+    /**
+     * @return the next batch of documents as VelocyPack array, or {@code null} if the stream is exhausted
+     * @throws ArangoDBException if the stream could not be read or contains invalid JSON
+     */
+    public VPackSlice next() throws ArangoDBException {
+        try {
+            while (true) {
+                int cut = end - start >= batchSize ? lineEnd(start + batchSize - 1) : -1;
+                if (cut < 0 && eof) {
+                    cut = end;
+                }
+                if (cut > start) {
+                    final VPackSlice batch = parse(start, cut);
+                    start = cut;
+                    if (batch.getLength() > 0) {
+                        return batch;
+                    }
+                } else if (eof) {
+                    return null;
+                } else {
+                    read();
+                }
+            }
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private int lineEnd(final int from) {
+        for (int i = from; i < end; i++) {
+            if (buffer[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private void read() throws IOException {
+        if (end == buffer.length) {
+            if (start > 0) {
+                System.arraycopy(buffer, start, buffer, 0, end - start);
+                end -= start;
+                start = 0;
+            } else {
+                // a single line is longer than the buffer
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+        }
+        final int read = in.read(buffer, end, buffer.length - end);
+        if (read < 0) {
+            eof = true;
+        } else {
+            end += read;
+        }
+    }
+
+    private VPackSlice parse(final int from, final int to) {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.ARRAY);
+        VPackJsonConverter.fromJson(builder, buffer, from, to - from, true);
+        builder.close();
+        return builder.slice();
+    }
+
+}
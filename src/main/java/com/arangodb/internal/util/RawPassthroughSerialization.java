@@ -0,0 +1,148 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.internal.velocypack.VPackJsonConverter;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.util.RawJson;
+import com.arangodb.util.RawVPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+
+/**
+ * Passes {@link RawJson} and {@link RawVPack} documents, and iterables starting with one of them, through without
+ * calling the wrapped serialization. All other values are delegated. With the JSON protocol, requests with {@link RawJson} documents
+ * bypass this class altogether and send the JSON as it is, see {@link #json(Object)}.
+ */
+public class RawPassthroughSerialization implements ArangoSerialization {
+
+    private final ArangoSerialization delegate;
+
+    public RawPassthroughSerialization(final ArangoSerialization delegate) {
+        super();
+        this.delegate = delegate;
+    }
+
+    @Override
+    public VPackSlice serialize(final Object entity) throws ArangoDBException {
+        return isRaw(entity) || isRawIterable(entity) ? serializeRaw(entity, null) : delegate.serialize(entity);
+    }
+
+    @Override
+    public VPackSlice serialize(final Object entity, final Options options) throws ArangoDBException {
+        return isRaw(entity) || isRawIterable(entity) ? serializeRaw(entity, options)
+                : delegate.serialize(entity, options);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T deserialize(final VPackSlice vpack, final Type type) throws ArangoDBException {
+        if (type == RawVPack.class) {
+            return (T) RawVPack.of(vpack);
+        }
+        if (type == RawJson.class) {
+            return (T) toJson(vpack);
+        }
+        return delegate.deserialize(vpack, type);
+    }
+
+    private static boolean isRaw(final Object entity) {
+        return entity instanceof RawVPack || entity instanceof RawJson;
+    }
+
+    /**
+     * @return whether the given value is an iterable starting with a raw document. Only the first element is looked
+     * at, so that other iterables are not walked twice. Further elements which are not raw are passed to the wrapped
+     * serialization one by one.
+     */
+    private static boolean isRawIterable(final Object entity) {
+        if (!(entity instanceof Iterable)) {
+            return false;
+        }
+        final Iterator<?> iterator = ((Iterable<?>) entity).iterator();
+        return iterator.hasNext() && isRaw(iterator.next());
+    }
+
+    /**
+     * @param entity a document or an iterable of documents
+     * @return the given value as JSON, if it is a {@link RawJson} or an iterable consisting of {@link RawJson} only,
+     * otherwise {@code null}
+     */
+    public static RawJson json(final Object entity) {
+        if (entity instanceof RawJson) {
+            return (RawJson) entity;
+        }
+        if (!(entity instanceof Iterable)) {
+            return null;
+        }
+        final Iterator<?> iterator = ((Iterable<?>) entity).iterator();
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        final DirectByteArrayOutputStream out = new DirectByteArrayOutputStream();
+        out.write('[');
+        while (iterator.hasNext()) {
+            final Object element = iterator.next();
+            if (!(element instanceof RawJson)) {
+                return null;
+            }
+            final RawJson json = (RawJson) element;
+            out.write(json.getBuffer(), json.getOffset(), json.getLength());
+            out.write(iterator.hasNext() ? ',' : ']');
+        }
+        return RawJson.of(out.getBuffer(), 0, out.size());
+    }
+
+    private VPackSlice serializeRaw(final Object entity, final Options options) {
+        if (entity instanceof RawVPack) {
+            return ((RawVPack) entity).getSlice();
+        }
+        if (entity instanceof RawJson) {
+            final RawJson json = (RawJson) entity;
+            return VPackJsonConverter.fromJson(json.getBuffer(), json.getOffset(), json.getLength(), true);
+        }
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.ARRAY);
+        for (final Object element : (Iterable<?>) entity) {
+            builder.add(isRaw(element) ? serializeRaw(element, options)
+                    : options != null ? delegate.serialize(element, options) : delegate.serialize(element));
+        }
+        builder.close();
+        return builder.slice();
+    }
+
+    private static RawJson toJson(final VPackSlice vpack) {
+        final DirectByteArrayOutputStream out = new DirectByteArrayOutputStream(vpack.getByteSize() + 16);
+        try {
+            VPackJsonConverter.toJson(vpack, out, true);
+        } catch (final IOException e) {
+            throw new ArangoDBException(e);
+        }
+        return RawJson.of(out.getBuffer(), 0, out.size());
+    }
+
+}
@@ -22,16 +22,22 @@ package com.arangodb.internal.velocypack;
 
 import com.arangodb.entity.*;
 import com.arangodb.entity.arangosearch.*;
+import com.arangodb.velocypack.VPackDeserializationContext;
 import com.arangodb.velocypack.VPackDeserializer;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocystream.Response;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -41,7 +47,16 @@ import java.util.Map.Entry;
 public class VPackDeserializers {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(VPackDeserializers.class);
-    private static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss.SSSZ";
+    private static final DateTimeFormatter DATE_TIME_FORMAT = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+            .optionalStart().appendOffset("+HH:MM", "Z").optionalEnd()
+            .optionalStart().appendOffset("+HHMM", "Z").optionalEnd()
+            .toFormatter();
+    private static final String KEY = DocumentField.Type.KEY.getSerializeName();
+    private static final String ID = DocumentField.Type.ID.getSerializeName();
+    private static final String REV = DocumentField.Type.REV.getSerializeName();
+
+    private static final VPackStringInterner STRINGS = VPackStringInterner.DOCUMENTS;
 
     public static final VPackDeserializer<Response> RESPONSE = (parent, vpack, context) -> {
         final Response response = new Response();
@@ -49,25 +64,51 @@ public class VPackDeserializers {
         response.setType(vpack.get(1).getAsInt());
         response.setResponseCode(vpack.get(2).getAsInt());
         if (vpack.size() > 3) {
-            response.setMeta(context.deserialize(vpack.get(3), Map.class));
+            response.setMeta(deserializeMeta(vpack.get(3)));
         }
         return response;
     };
 
+    public static final VPackDeserializer<ErrorEntity> ERROR_ENTITY = (parent, vpack, context) -> {
+        return new ErrorEntity(getString(vpack, "errorMessage"), getString(vpack, "exception"), getInt(vpack, "code"),
+                getInt(vpack, "errorNum"));
+    };
+
+    @SuppressWarnings("rawtypes")
+    public static final VPackDeserializer<DocumentCreateEntity> DOCUMENT_CREATE_ENTITY = (parent, vpack, context) -> {
+        return new DocumentCreateEntity<>(getString(vpack, KEY), getString(vpack, ID), getString(vpack, REV));
+    };
+
+    @SuppressWarnings("rawtypes")
+    public static final VPackDeserializer<DocumentUpdateEntity> DOCUMENT_UPDATE_ENTITY = (parent, vpack, context) -> {
+        return new DocumentUpdateEntity<>(getString(vpack, KEY), getString(vpack, ID), getString(vpack, REV),
+                getString(vpack, "_oldRev"));
+    };
+
+    public static final VPackDeserializer<CursorEntity> CURSOR_ENTITY = (parent, vpack, context) -> {
+        final VPackSlice count = vpack.get("count");
+        final VPackSlice extra = vpack.get("extra");
+        final VPackSlice result = vpack.get("result");
+        return new CursorEntity(getString(vpack, "id"), count.isNumber() ? count.getAsInt() : null,
+                extra.isObject() ? context.deserialize(extra, CursorEntity.Extras.class) : null,
+                getBoolean(vpack, "cached"), getBoolean(vpack, "hasMore"),
+                result.isNone() || result.isNull() ? null : result);
+    };
+
     public static final VPackDeserializer<CollectionType> COLLECTION_TYPE = (parent, vpack, context) -> CollectionType.fromType(vpack.getAsInt());
 
     public static final VPackDeserializer<CollectionStatus> COLLECTION_STATUS = (parent, vpack, context) -> CollectionStatus.fromStatus(vpack.getAsInt());
 
-    @SuppressWarnings("unchecked")
-    public static final VPackDeserializer<BaseDocument> BASE_DOCUMENT = (parent, vpack, context) -> new BaseDocument((Map) context.deserialize(vpack, Map.class));
+    public static final VPackDeserializer<BaseDocument> BASE_DOCUMENT = (parent, vpack, context) -> new BaseDocument(deserializeProperties(vpack, context));
+
+    public static final VPackDeserializer<BaseEdgeDocument> BASE_EDGE_DOCUMENT = (parent, vpack, context) -> new BaseEdgeDocument(deserializeProperties(vpack, context));
 
-    @SuppressWarnings("unchecked")
-    public static final VPackDeserializer<BaseEdgeDocument> BASE_EDGE_DOCUMENT = (parent, vpack, context) -> new BaseEdgeDocument((Map) context.deserialize(vpack, Map.class));
+    public static final VPackDeserializer<LazyDocument> LAZY_DOCUMENT = (parent, vpack, context) -> new LazyDocument(vpack, context);
 
     public static final VPackDeserializer<Date> DATE_STRING = (parent, vpack, context) -> {
         try {
-            return new SimpleDateFormat(DATE_TIME_FORMAT).parse(vpack.getAsString());
-        } catch (final ParseException e) {
+            return Date.from(OffsetDateTime.parse(vpack.getAsString(), DATE_TIME_FORMAT).toInstant());
+        } catch (final DateTimeParseException e) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("got ParseException for date string: " + vpack.getAsString());
             }
@@ -237,4 +278,60 @@ public class VPackDeserializers {
         return null;
     };
 
+    /**
+     * Decodes an object into a {@code HashMap} like the reflective mapper does for {@code Map.class}, but takes
+     * attribute names and short string values from {@link #STRINGS}.
+     */
+    private static Map<String, Object> deserializeProperties(final VPackSlice vpack,
+                                                             final VPackDeserializationContext context) {
+        final Map<String, Object> properties = new HashMap<>(vpack.size() * 4 / 3 + 1);
+        STRINGS.forEachAttribute(vpack, (name, value) -> properties.put(name, deserializeValue(value, context)));
+        return properties;
+    }
+
+    private static Object deserializeValue(final VPackSlice value, final VPackDeserializationContext context) {
+        if (value.isString()) {
+            return STRINGS.intern(value, VPackStringInterner.MAX_VALUE_LENGTH);
+        }
+        if (value.isObject()) {
+            return deserializeProperties(value, context);
+        }
+        if (value.isArray()) {
+            final int size = value.size();
+            final List<Object> list = new ArrayList<>(size);
+            for (final Iterator<VPackSlice> iterator = value.arrayIterator(); iterator.hasNext(); ) {
+                list.add(deserializeValue(iterator.next(), context));
+            }
+            return list;
+        }
+        return context.deserialize(value, Object.class);
+    }
+
+    private static Map<String, String> deserializeMeta(final VPackSlice vpack) {
+        final Map<String, String> meta = new HashMap<>();
+        if (vpack.isObject()) {
+            for (final Iterator<Entry<String, VPackSlice>> iterator = vpack.objectIterator(); iterator.hasNext(); ) {
+                final Entry<String, VPackSlice> next = iterator.next();
+                final VPackSlice value = next.getValue();
+                meta.put(next.getKey(), value.isString() ? value.getAsString() : value.isNull() ? null : value.toString());
+            }
+        }
+        return meta;
+    }
+
+    private static String getString(final VPackSlice vpack, final String attribute) {
+        final VPackSlice value = vpack.get(attribute);
+        return value.isString() ? value.getAsString() : null;
+    }
+
+    private static int getInt(final VPackSlice vpack, final String attribute) {
+        final VPackSlice value = vpack.get(attribute);
+        return value.isNumber() ? value.getAsInt() : 0;
+    }
+
+    private static Boolean getBoolean(final VPackSlice vpack, final String attribute) {
+        final VPackSlice value = vpack.get(attribute);
+        return value.isBoolean() ? value.getAsBoolean() : null;
+    }
+
 }
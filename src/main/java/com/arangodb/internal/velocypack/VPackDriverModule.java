@@ -56,6 +56,7 @@ public class VPackDriverModule implements VPackModule, VPackParserModule {
         context.registerSerializer(CollectionType.class, VPackSerializers.COLLECTION_TYPE);
         context.registerSerializer(BaseDocument.class, VPackSerializers.BASE_DOCUMENT);
         context.registerSerializer(BaseEdgeDocument.class, VPackSerializers.BASE_EDGE_DOCUMENT);
+        context.registerSerializer(LazyDocument.class, VPackSerializers.LAZY_DOCUMENT);
         context.registerSerializer(TraversalOptions.Order.class, VPackSerializers.TRAVERSAL_ORDER);
         context.registerSerializer(LogLevel.class, VPackSerializers.LOG_LEVEL);
         context.registerSerializer(Permissions.class, VPackSerializers.PERMISSIONS);
@@ -67,10 +68,15 @@ public class VPackDriverModule implements VPackModule, VPackParserModule {
         context.registerSerializer(ConsolidationType.class, VPackSerializers.CONSOLIDATE_TYPE);
 
         context.registerDeserializer(Response.class, VPackDeserializers.RESPONSE);
+        context.registerDeserializer(ErrorEntity.class, VPackDeserializers.ERROR_ENTITY);
+        context.registerDeserializer(DocumentCreateEntity.class, VPackDeserializers.DOCUMENT_CREATE_ENTITY);
+        context.registerDeserializer(DocumentUpdateEntity.class, VPackDeserializers.DOCUMENT_UPDATE_ENTITY);
+        context.registerDeserializer(CursorEntity.class, VPackDeserializers.CURSOR_ENTITY);
         context.registerDeserializer(CollectionType.class, VPackDeserializers.COLLECTION_TYPE);
         context.registerDeserializer(CollectionStatus.class, VPackDeserializers.COLLECTION_STATUS);
         context.registerDeserializer(BaseDocument.class, VPackDeserializers.BASE_DOCUMENT);
         context.registerDeserializer(BaseEdgeDocument.class, VPackDeserializers.BASE_EDGE_DOCUMENT);
+        context.registerDeserializer(LazyDocument.class, VPackDeserializers.LAZY_DOCUMENT);
         context.registerDeserializer(QueryEntity.PROPERTY_STARTED, Date.class, VPackDeserializers.DATE_STRING);
         context.registerDeserializer(LogLevel.class, VPackDeserializers.LOG_LEVEL);
         context.registerDeserializer(License.class, VPackDeserializers.LICENSE);
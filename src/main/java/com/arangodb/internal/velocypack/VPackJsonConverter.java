@@ -0,0 +1,198 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocypack.exception.VPackException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+/**
+ * Converts between JSON bytes and VelocyPack without an intermediate {@link String} representation. Used by the HTTP
+ * transports when {@link com.arangodb.Protocol#HTTP_JSON} is configured.
+ */
+public final class VPackJsonConverter {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String NON_REPRESENTABLE_TYPE = "(non-representable type)";
+    private static final int SHORT_STRING_MAX_HEAD = 0xbe;
+
+    private VPackJsonConverter() {
+        super();
+    }
+
+    /**
+     * Writes the given VelocyPack value as UTF-8 encoded JSON. Strings are copied from the VelocyPack buffer without
+     * being decoded.
+     *
+     * @param slice              the value to write
+     * @param out                the stream to write to
+     * @param includeNullValues  whether or not object attributes with value {@code null} are written
+     */
+    public static void toJson(final VPackSlice slice, final OutputStream out, final boolean includeNullValues)
+            throws IOException {
+        try (final JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            write(generator, slice, includeNullValues);
+        }
+    }
+
+    private static void write(final JsonGenerator generator, final VPackSlice value, final boolean includeNullValues)
+            throws IOException {
+        if (value.isObject()) {
+            generator.writeStartObject();
+            for (final Iterator<Entry<String, VPackSlice>> iterator = value.objectIterator(); iterator.hasNext(); ) {
+                final Entry<String, VPackSlice> next = iterator.next();
+                if (includeNullValues || !next.getValue().isNull()) {
+                    generator.writeFieldName(next.getKey());
+                    write(generator, next.getValue(), includeNullValues);
+                }
+            }
+            generator.writeEndObject();
+        } else if (value.isArray()) {
+            generator.writeStartArray();
+            for (final Iterator<VPackSlice> iterator = value.arrayIterator(); iterator.hasNext(); ) {
+                write(generator, iterator.next(), includeNullValues);
+            }
+            generator.writeEndArray();
+        } else if (value.isString()) {
+            writeString(generator, value);
+        } else if (value.isBoolean()) {
+            generator.writeBoolean(value.getAsBoolean());
+        } else if (value.isDouble()) {
+            generator.writeNumber(value.getAsDouble());
+        } else if (value.isSmallInt() || value.isInt()) {
+            generator.writeNumber(value.getAsLong());
+        } else if (value.isUInt()) {
+            generator.writeNumber(value.getAsBigInteger());
+        } else if (value.isNumber()) {
+            generator.writeNumber(value.getAsNumber().toString());
+        } else if (value.isNull()) {
+            generator.writeNull();
+        } else {
+            generator.writeString(NON_REPRESENTABLE_TYPE);
+        }
+    }
+
+    private static void writeString(final JsonGenerator generator, final VPackSlice value) throws IOException {
+        final byte[] buffer = value.getBuffer();
+        final int start = value.getStart();
+        final int head = value.head() & 0xff;
+        if (head <= SHORT_STRING_MAX_HEAD) {
+            generator.writeUTF8String(buffer, start + 1, head - 0x40);
+        } else {
+            long length = 0;
+            for (int i = 8; i > 0; i--) {
+                length = (length << 8) | (buffer[start + i] & 0xffL);
+            }
+            generator.writeUTF8String(buffer, start + 9, (int) length);
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON directly into VelocyPack.
+     *
+     * @param json               buffer containing the JSON document
+     * @param offset             start of the JSON document within the buffer
+     * @param length             number of bytes of the JSON document
+     * @param includeNullValues  whether or not object attributes with value {@code null} are kept
+     * @return the parsed VelocyPack value
+     */
+    public static VPackSlice fromJson(final byte[] json, final int offset, final int length,
+                                      final boolean includeNullValues) {
+        final VPackBuilder builder = new VPackBuilder();
+        fromJson(builder, json, offset, length, includeNullValues);
+        return builder.slice();
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON directly into the given builder. If the buffer contains several whitespace separated
+     * JSON values, for example JSON lines, all of them are added, so they can be collected in an open array.
+     *
+     * @param builder            the builder to add the parsed values to
+     * @param json               buffer containing the JSON values
+     * @param offset             start of the JSON values within the buffer
+     * @param length             number of bytes of the JSON values
+     * @param includeNullValues  whether or not object attributes with value {@code null} are kept
+     */
+    public static void fromJson(final VPackBuilder builder, final byte[] json, final int offset, final int length,
+                                final boolean includeNullValues) {
+        try (final JsonParser parser = JSON_FACTORY.createParser(json, offset, length)) {
+            String fieldName = null;
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                switch (token) {
+                    case START_OBJECT:
+                        builder.add(fieldName, ValueType.OBJECT);
+                        break;
+                    case START_ARRAY:
+                        builder.add(fieldName, ValueType.ARRAY);
+                        break;
+                    case END_OBJECT:
+                    case END_ARRAY:
+                        builder.close();
+                        break;
+                    case FIELD_NAME:
+                        fieldName = parser.getCurrentName();
+                        continue;
+                    case VALUE_STRING:
+                        builder.add(fieldName, parser.getText());
+                        break;
+                    case VALUE_NUMBER_INT:
+                        if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                            builder.add(fieldName, parser.getBigIntegerValue());
+                        } else {
+                            builder.add(fieldName, parser.getLongValue());
+                        }
+                        break;
+                    case VALUE_NUMBER_FLOAT:
+                        builder.add(fieldName, parser.getDoubleValue());
+                        break;
+                    case VALUE_TRUE:
+                    case VALUE_FALSE:
+                        builder.add(fieldName, parser.getBooleanValue());
+                        break;
+                    case VALUE_NULL:
+                        if (includeNullValues || fieldName == null) {
+                            builder.add(fieldName, ValueType.NULL);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+                fieldName = null;
+            }
+        } catch (final IOException | VPackException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+}
@@ -0,0 +1,348 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackDeserializationContext;
+import com.arangodb.velocypack.VPackDeserializer;
+import com.arangodb.velocypack.VPackSerializationContext;
+import com.arangodb.velocypack.VPackSerializer;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocypack.annotations.Expose;
+import com.arangodb.velocypack.annotations.SerializedName;
+import com.arangodb.velocypack.exception.VPackException;
+import com.arangodb.velocypack.exception.VPackParserException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Serializer and deserializer for a single POJO type which accesses the fields through {@link MethodHandle}s that are
+ * resolved once, instead of looking up and reflectively reading every field for every document. Primitive fields and
+ * {@code String}s are read and written directly, all other fields are delegated to the VelocyPack context.
+ *
+ * <p>
+ * Field selection and naming follow the reflective mapper: static, transient and synthetic fields are ignored,
+ * {@link DocumentField} and {@link SerializedName} rename fields and {@link Expose} excludes them. Type hints for
+ * polymorphic field values are not written.
+ * </p>
+ *
+ * @param <T> the POJO type
+ */
+public final class VPackPojoCodec<T> implements VPackSerializer<T>, VPackDeserializer<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final Comparator<FieldCodec> BY_NAME = Comparator.comparing(field -> field.name);
+
+    private enum Kind {
+        BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, CHAR, STRING, OBJECT
+    }
+
+    private static final class FieldCodec {
+        private final String name;
+        private final Type type;
+        private final Kind kind;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private FieldCodec(final String name, final Type type, final Kind kind, final MethodHandle getter,
+                           final MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            this.kind = kind;
+            this.getter = getter;
+            this.setter = setter;
+        }
+
+        private void write(final VPackBuilder builder, final Object entity, final VPackSerializationContext context)
+                throws Throwable {
+            switch (kind) {
+                case BOOLEAN:
+                    builder.add(name, (boolean) getter.invokeExact(entity));
+                    break;
+                case BYTE:
+                    builder.add(name, (byte) getter.invokeExact(entity));
+                    break;
+                case SHORT:
+                    builder.add(name, (short) getter.invokeExact(entity));
+                    break;
+                case INT:
+                    builder.add(name, (int) getter.invokeExact(entity));
+                    break;
+                case LONG:
+                    builder.add(name, (long) getter.invokeExact(entity));
+                    break;
+                case FLOAT:
+                    builder.add(name, (float) getter.invokeExact(entity));
+                    break;
+                case DOUBLE:
+                    builder.add(name, (double) getter.invokeExact(entity));
+                    break;
+                case CHAR:
+                    builder.add(name, (char) getter.invokeExact(entity));
+                    break;
+                case STRING:
+                    final String string = (String) getter.invokeExact(entity);
+                    if (string != null) {
+                        builder.add(name, string);
+                    } else {
+                        // the context knows whether null values are serialized
+                        context.serialize(builder, name, null);
+                    }
+                    break;
+                default:
+                    context.serialize(builder, name, (Object) getter.invokeExact(entity));
+                    break;
+            }
+        }
+
+        private void read(final Object entity, final VPackSlice value, final VPackDeserializationContext context)
+                throws Throwable {
+            switch (kind) {
+                case BOOLEAN:
+                    setter.invokeExact(entity, value.getAsBoolean());
+                    break;
+                case BYTE:
+                    setter.invokeExact(entity, value.getAsByte());
+                    break;
+                case SHORT:
+                    setter.invokeExact(entity, value.getAsShort());
+                    break;
+                case INT:
+                    setter.invokeExact(entity, value.getAsInt());
+                    break;
+                case LONG:
+                    setter.invokeExact(entity, value.getAsLong());
+                    break;
+                case FLOAT:
+                    setter.invokeExact(entity, value.getAsFloat());
+                    break;
+                case DOUBLE:
+                    setter.invokeExact(entity, value.getAsDouble());
+                    break;
+                case CHAR:
+                    setter.invokeExact(entity, value.getAsChar());
+                    break;
+                case STRING:
+                    final String string = value.isString() ? value.getAsString()
+                            : context.deserialize(value, String.class);
+                    setter.invokeExact(entity, string);
+                    break;
+                default:
+                    setter.invokeExact(entity, context.deserialize(value, type));
+                    break;
+            }
+        }
+    }
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final FieldCodec[] serializedFields;
+    private final Map<String, FieldCodec> deserializedFields;
+
+    private VPackPojoCodec(final Class<T> type, final MethodHandle constructor, final FieldCodec[] serializedFields,
+                           final Map<String, FieldCodec> deserializedFields) {
+        super();
+        this.type = type;
+        this.constructor = constructor;
+        this.serializedFields = serializedFields;
+        this.deserializedFields = deserializedFields;
+    }
+
+    /**
+     * Resolves the fields and the no-argument constructor of the given type.
+     *
+     * @param type the POJO type
+     * @return the codec for the given type
+     * @throws ArangoDBException if the type is abstract, has no no-argument constructor or its fields can not be
+     *                           accessed
+     */
+    public static <T> VPackPojoCodec<T> create(final Class<T> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers()) || type.isEnum() || type.isArray()
+                || type.isPrimitive()) {
+            throw new ArangoDBException(String.format("Can not generate a codec for type %s", type.getName()));
+        }
+        try {
+            final Constructor<T> ctor = type.getDeclaredConstructor();
+            ctor.setAccessible(true);
+            final MethodHandle constructor = LOOKUP.unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+
+            final Map<String, FieldCodec> fields = new HashMap<>();
+            final Map<String, Boolean> serialize = new HashMap<>();
+            final Map<String, Boolean> deserialize = new HashMap<>();
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (final Field field : c.getDeclaredFields()) {
+                    final int modifiers = field.getModifiers();
+                    if (field.isSynthetic() || Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) {
+                        continue;
+                    }
+                    final Expose expose = field.getAnnotation(Expose.class);
+                    final boolean ser = expose == null || expose.serialize();
+                    final boolean deser = expose == null || expose.deserialize();
+                    final String name = fieldName(field);
+                    if ((!ser && !deser) || fields.containsKey(name)) {
+                        // fields of subclasses hide fields of superclasses with the same name
+                        continue;
+                    }
+                    field.setAccessible(true);
+                    fields.put(name, createFieldCodec(name, field));
+                    serialize.put(name, ser);
+                    deserialize.put(name, deser);
+                }
+            }
+
+            final List<FieldCodec> serializedFields = new ArrayList<>();
+            final Map<String, FieldCodec> deserializedFields = new HashMap<>();
+            for (final Entry<String, FieldCodec> field : fields.entrySet()) {
+                if (serialize.get(field.getKey())) {
+                    serializedFields.add(field.getValue());
+                }
+                if (deserialize.get(field.getKey())) {
+                    deserializedFields.put(field.getKey(), field.getValue());
+                }
+            }
+            serializedFields.sort(BY_NAME);
+            return new VPackPojoCodec<>(type, constructor, serializedFields.toArray(new FieldCodec[0]),
+                    deserializedFields);
+        } catch (final NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            final ArangoDBException exception = new ArangoDBException(
+                    String.format("Can not generate a codec for type %s", type.getName()));
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    private static String fieldName(final Field field) {
+        final SerializedName serializedName = field.getAnnotation(SerializedName.class);
+        if (serializedName != null) {
+            return serializedName.value();
+        }
+        final DocumentField documentField = field.getAnnotation(DocumentField.class);
+        if (documentField != null) {
+            return documentField.value().getSerializeName();
+        }
+        return field.getName();
+    }
+
+    private static FieldCodec createFieldCodec(final String name, final Field field) throws IllegalAccessException {
+        final Class<?> fieldType = field.getType();
+        final Kind kind;
+        if (fieldType == boolean.class) {
+            kind = Kind.BOOLEAN;
+        } else if (fieldType == byte.class) {
+            kind = Kind.BYTE;
+        } else if (fieldType == short.class) {
+            kind = Kind.SHORT;
+        } else if (fieldType == int.class) {
+            kind = Kind.INT;
+        } else if (fieldType == long.class) {
+            kind = Kind.LONG;
+        } else if (fieldType == float.class) {
+            kind = Kind.FLOAT;
+        } else if (fieldType == double.class) {
+            kind = Kind.DOUBLE;
+        } else if (fieldType == char.class) {
+            kind = Kind.CHAR;
+        } else if (fieldType == String.class) {
+            kind = Kind.STRING;
+        } else {
+            kind = Kind.OBJECT;
+        }
+        final Class<?> handleType = kind == Kind.OBJECT ? Object.class : fieldType;
+        final MethodHandle getter = LOOKUP.unreflectGetter(field)
+                .asType(MethodType.methodType(handleType, Object.class));
+        final MethodHandle setter = setter(field).asType(MethodType.methodType(void.class, Object.class, handleType));
+        return new FieldCodec(name, field.getGenericType(), kind, getter, setter);
+    }
+
+    private static MethodHandle setter(final Field field) throws IllegalAccessException {
+        try {
+            return LOOKUP.unreflectSetter(field);
+        } catch (final IllegalAccessException e) {
+            // final fields can not be set through a method handle before Java 12, fall back to Field#set
+            try {
+                return LOOKUP.findVirtual(Field.class, "set",
+                        MethodType.methodType(void.class, Object.class, Object.class)).bindTo(field);
+            } catch (final NoSuchMethodException ex) {
+                throw e;
+            }
+        }
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public void serialize(final VPackBuilder builder, final String attribute, final T value,
+                          final VPackSerializationContext context) throws VPackException {
+        builder.add(attribute, ValueType.OBJECT);
+        try {
+            for (final FieldCodec field : serializedFields) {
+                field.write(builder, value, context);
+            }
+        } catch (final VPackException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new VPackParserException(e);
+        }
+        builder.close();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public T deserialize(final VPackSlice parent, final VPackSlice vpack, final VPackDeserializationContext context)
+            throws VPackException {
+        try {
+            final T entity = (T) (Object) constructor.invokeExact();
+            for (final Iterator<Entry<String, VPackSlice>> iterator = vpack.objectIterator(); iterator.hasNext(); ) {
+                final Entry<String, VPackSlice> next = iterator.next();
+                final FieldCodec field = deserializedFields.get(next.getKey());
+                final VPackSlice value = next.getValue();
+                if (field != null && !(value.isNull() && field.kind != Kind.OBJECT && field.kind != Kind.STRING)) {
+                    field.read(entity, value, context);
+                }
+            }
+            return entity;
+        } catch (final VPackException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new VPackParserException(e);
+        }
+    }
+
+}
@@ -66,8 +66,12 @@ public class VPackSerializers {
         builder.add(value.getVersion());
         builder.add(value.getType());
         builder.add(value.getEncryption());
-        builder.add(value.getUser());
-        builder.add(value.getPassword());
+        if (AuthenticationRequest.ENCRYPTION_JWT.equals(value.getEncryption())) {
+            builder.add(value.getToken());
+        } else {
+            builder.add(value.getUser());
+            builder.add(value.getPassword());
+        }
         builder.close();
     };
 
@@ -91,6 +95,8 @@ public class VPackSerializers {
         context.serialize(builder, attribute, doc);
     };
 
+    public static final VPackSerializer<LazyDocument> LAZY_DOCUMENT = (builder, attribute, value, context) -> builder.add(attribute, value.getSlice());
+
     public static final VPackSerializer<TraversalOptions.Order> TRAVERSAL_ORDER = (builder, attribute, value, context) -> {
         if (Order.preorder_expander == value) {
             builder.add(attribute, "preorder-expander");
@@ -0,0 +1,168 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.velocypack.VPackSlice;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+
+/**
+ * Bounded table of recently decoded VelocyPack strings, keyed by their UTF-8 bytes. Decoding the same short string
+ * again returns the cached {@code String} instead of a new copy, so documents which are kept in memory share the
+ * instances of their attribute names and repeated values.
+ *
+ * <p>
+ * The table is direct-mapped: a string replaces any other string with the same slot. Entries are immutable, so the
+ * table can be shared between threads without locking; a lost update only costs a cache miss.
+ * </p>
+ */
+public final class VPackStringInterner {
+
+    private static final int MAX_SHORT_STRING = 0xbe;
+    private static final int MIN_SHORT_STRING = 0x40;
+    private static final int COMPACT_OBJECT = 0x14;
+
+    /**
+     * maximum number of UTF-8 bytes of attribute names which are interned
+     */
+    public static final int MAX_NAME_LENGTH = 64;
+
+    /**
+     * maximum number of UTF-8 bytes of string values which are interned by the document decoders
+     */
+    public static final int MAX_VALUE_LENGTH = 16;
+
+    /**
+     * attribute names and short values of decoded documents, which are often kept in memory in large numbers
+     */
+    public static final VPackStringInterner DOCUMENTS = new VPackStringInterner(4096);
+
+    private static final class Entry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String value;
+
+        private Entry(final int hash, final byte[] bytes, final String value) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.value = value;
+        }
+    }
+
+    private final Entry[] entries;
+    private final int mask;
+
+    /**
+     * @param capacity number of cached strings, rounded up to the next power of two
+     */
+    public VPackStringInterner(final int capacity) {
+        super();
+        int size = 1;
+        while (size < capacity) {
+            size <<= 1;
+        }
+        entries = new Entry[size];
+        mask = size - 1;
+    }
+
+    /**
+     * @param string    a VelocyPack string
+     * @param maxLength maximum number of UTF-8 bytes of strings which are cached, longer strings are decoded as usual
+     * @return the decoded string
+     */
+    public String intern(final VPackSlice string, final int maxLength) {
+        final byte[] buffer = string.getBuffer();
+        final int start = string.getStart();
+        final int head = buffer[start] & 0xff;
+        final int length = head - MIN_SHORT_STRING;
+        if (head < MIN_SHORT_STRING || head > MAX_SHORT_STRING || length > maxLength) {
+            return string.getAsString();
+        }
+        final int offset = start + 1;
+        int hash = length;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + buffer[i];
+        }
+        final int index = (hash ^ (hash >>> 16)) & mask;
+        final Entry entry = entries[index];
+        if (entry != null && entry.hash == hash && equals(entry.bytes, buffer, offset, length)) {
+            return entry.value;
+        }
+        final byte[] bytes = Arrays.copyOfRange(buffer, offset, offset + length);
+        final String value = new String(bytes, StandardCharsets.UTF_8);
+        entries[index] = new Entry(hash, bytes, value);
+        return value;
+    }
+
+    /**
+     * @param key a VelocyPack attribute name, either a string or a translated integer
+     * @return the decoded attribute name
+     */
+    public String attributeName(final VPackSlice key) {
+        final VPackSlice name = key.isString() ? key : VPackSlice.attributeTranslator.translate(key.getAsInt());
+        return intern(name, MAX_NAME_LENGTH);
+    }
+
+    /**
+     * Calls the action for every attribute of the object with its interned name and its value. Compact objects are
+     * walked in the order of their attributes, other objects in the order of their index table.
+     *
+     * @param object a VelocyPack object
+     * @param action receives the name and the value of every attribute
+     */
+    public void forEachAttribute(final VPackSlice object, final BiConsumer<String, VPackSlice> action) {
+        final int size = object.size();
+        if ((object.head() & 0xff) == COMPACT_OBJECT) {
+            // compact objects have no index table, keyAt(int) would scan from the start for every attribute
+            final byte[] buffer = object.getBuffer();
+            int offset = object.getStart() + 1;
+            while ((buffer[offset++] & 0x80) != 0) {
+                // skips the variable length byte size
+            }
+            for (int i = 0; i < size; i++) {
+                final VPackSlice key = new VPackSlice(buffer, offset);
+                final VPackSlice value = new VPackSlice(buffer, offset + key.getByteSize());
+                action.accept(attributeName(key), value);
+                offset = value.getStart() + value.getByteSize();
+            }
+        } else {
+            for (int i = 0; i < size; i++) {
+                final VPackSlice key = object.keyAt(i);
+                action.accept(attributeName(key), new VPackSlice(key.getBuffer(), key.getStart() + key.getByteSize()));
+            }
+        }
+    }
+
+    private static boolean equals(final byte[] bytes, final byte[] buffer, final int offset, final int length) {
+        if (bytes.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[i] != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -26,6 +26,7 @@ import com.arangodb.internal.net.*;
 import com.arangodb.internal.util.HostUtils;
 import com.arangodb.internal.util.RequestUtils;
 import com.arangodb.internal.util.ResponseUtils;
+import com.arangodb.internal.velocypack.VPackDeserializers;
 import com.arangodb.internal.velocystream.internal.Chunk;
 import com.arangodb.internal.velocystream.internal.Message;
 import com.arangodb.internal.velocystream.internal.VstConnection;
@@ -142,7 +143,7 @@ public abstract class VstCommunication<R, C extends VstConnection> implements Cl
     }
 
     protected Response createResponse(final Message message) throws VPackParserException {
-        final Response response = util.deserialize(message.getHead(), Response.class);
+        final Response response = VPackDeserializers.RESPONSE.deserialize(null, message.getHead(), null);
         if (message.getBody() != null) {
             response.setBody(message.getBody());
         }
@@ -22,6 +22,7 @@ package com.arangodb.internal.velocystream;
 
 import com.arangodb.ArangoDBException;
 import com.arangodb.internal.net.HostHandler;
+import com.arangodb.internal.net.JwtAuthentication;
 import com.arangodb.internal.velocystream.internal.AuthenticationRequest;
 import com.arangodb.internal.velocystream.internal.Message;
 import com.arangodb.internal.velocystream.internal.VstConnectionSync;
@@ -41,6 +42,8 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
 
     private static final Logger LOGGER = LoggerFactory.getLogger(VstCommunicationSync.class);
 
+    private final JwtAuthentication jwt;
+
     public static class Builder {
 
         private final HostHandler hostHandler;
@@ -52,6 +55,7 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
         private SSLContext sslContext;
         private Integer chunksize;
         private Integer maxConnections;
+        private JwtAuthentication jwt;
 
         public Builder(final HostHandler hostHandler) {
             super();
@@ -61,7 +65,8 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
         public Builder(final Builder builder) {
             this(builder.hostHandler);
             timeout(builder.timeout).user(builder.user).password(builder.password).useSsl(builder.useSsl)
-                    .sslContext(builder.sslContext).chunksize(builder.chunksize).maxConnections(builder.maxConnections);
+                    .sslContext(builder.sslContext).chunksize(builder.chunksize).maxConnections(builder.maxConnections)
+                    .jwt(builder.jwt);
         }
 
         public Builder timeout(final Integer timeout) {
@@ -104,17 +109,24 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
             return this;
         }
 
+        public Builder jwt(final JwtAuthentication jwt) {
+            this.jwt = jwt;
+            return this;
+        }
+
         public VstCommunication<Response, VstConnectionSync> build(final ArangoSerialization util) {
             return new VstCommunicationSync(hostHandler, timeout, user, password, useSsl, sslContext, util, chunksize,
-                    maxConnections, connectionTtl);
+                    maxConnections, connectionTtl, jwt);
         }
 
     }
 
     protected VstCommunicationSync(final HostHandler hostHandler, final Integer timeout, final String user,
                                    final String password, final Boolean useSsl, final SSLContext sslContext, final ArangoSerialization util,
-                                   final Integer chunksize, final Integer maxConnections, final Long ttl) {
+                                   final Integer chunksize, final Integer maxConnections, final Long ttl,
+                                   final JwtAuthentication jwt) {
         super(timeout, user, password, useSsl, sslContext, util, chunksize, hostHandler);
+        this.jwt = jwt;
     }
 
     @Override
@@ -140,9 +152,29 @@ public class VstCommunicationSync extends VstCommunication<Response, VstConnecti
 
     @Override
     protected void authenticate(final VstConnectionSync connection) {
+        if (jwt != null) {
+            authenticateJwt(connection);
+            return;
+        }
         final Response response = execute(
                 new AuthenticationRequest(user, password != null ? password : "", ENCRYPTION_PLAIN), connection);
         checkError(response);
     }
 
+    private void authenticateJwt(final VstConnectionSync connection) {
+        // the token is shared by all connections, so only the first connect requests it
+        final JwtAuthentication.TokenRequester requester = request -> execute(request, connection);
+        final String token = jwt.getToken(requester);
+        try {
+            checkError(execute(new AuthenticationRequest(token), connection));
+        } catch (final ArangoDBException e) {
+            if (e.getResponseCode() == null || e.getResponseCode() != 401) {
+                throw e;
+            }
+            // the token was rejected (e.g. after a server restart), retry once with a fresh one
+            jwt.invalidate(token);
+            checkError(execute(new AuthenticationRequest(jwt.getToken(requester)), connection));
+        }
+    }
+
 }
@@ -27,15 +27,31 @@ import com.arangodb.velocystream.Request;
  */
 public class AuthenticationRequest extends Request {
 
+    public static final String ENCRYPTION_JWT = "jwt";
+
     private final String user;
     private final String password;
-    private final String encryption;// "plain"
+    private final String encryption;// "plain" or "jwt"
+    private final String token;
 
     public AuthenticationRequest(final String user, final String password, final String encryption) {
         super(null, null, null);
         this.user = user;
         this.password = password;
         this.encryption = encryption;
+        this.token = null;
+        setType(1000);
+    }
+
+    /**
+     * VelocyStream 1.1 authentication with a JSON Web Token
+     */
+    public AuthenticationRequest(final String token) {
+        super(null, null, null);
+        this.user = null;
+        this.password = null;
+        this.encryption = ENCRYPTION_JWT;
+        this.token = token;
         setType(1000);
     }
 
@@ -51,4 +67,8 @@ public class AuthenticationRequest extends Request {
         return encryption;
     }
 
+    public String getToken() {
+        return token;
+    }
+
 }
@@ -41,6 +41,14 @@ public class AqlQueryOptions implements Serializable {
     private Boolean count;
     private Integer ttl;
     private Integer batchSize;
+    @Expose(serialize = false)
+    private Boolean adaptiveBatchSize;
+    @Expose(serialize = false)
+    private Integer prefetch;
+    @Expose(serialize = false)
+    private Boolean clientCache;
+    @Expose(serialize = false)
+    private Collection<String> clientCacheCollections;
     private Boolean cache;
     private Long memoryLimit;
     private VPackSlice bindVars;
@@ -100,6 +108,68 @@ public class AqlQueryOptions implements Serializable {
         return this;
     }
 
+    public Boolean getAdaptiveBatchSize() {
+        return adaptiveBatchSize;
+    }
+
+    /**
+     * @param adaptiveBatchSize whether the driver chooses the batch size from the previous executions of the same query,
+     *                          aiming at responses of about 1 MiB and larger batches on slow round trips. Only applies
+     *                          if no batch size is set. The first execution of a query uses the server default. For
+     *                          prepared queries the batch size is chosen for every execution.
+     * @return options
+     */
+    public AqlQueryOptions adaptiveBatchSize(final Boolean adaptiveBatchSize) {
+        this.adaptiveBatchSize = adaptiveBatchSize;
+        return this;
+    }
+
+    public Integer getPrefetch() {
+        return prefetch;
+    }
+
+    /**
+     * @param prefetch number of batches the cursor fetches from the server in the background while the current batch
+     *                 is consumed. Batches are still requested one after another from the same coordinator. Prefetching
+     *                 is disabled by default and within stream transactions, which do not allow concurrent requests.
+     * @return options
+     */
+    public AqlQueryOptions prefetch(final Integer prefetch) {
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    public Boolean getClientCache() {
+        return clientCache;
+    }
+
+    /**
+     * @param clientCache whether the result of this query may be served from and stored in the client side query
+     *                    result cache, which has to be enabled with
+     *                    {@link com.arangodb.ArangoDB.Builder#queryResultCacheSize(Integer)}. Only use it for read-only
+     *                    queries. Only results which are returned in one batch are cached.
+     * @return options
+     */
+    public AqlQueryOptions clientCache(final Boolean clientCache) {
+        this.clientCache = clientCache;
+        return this;
+    }
+
+    public Collection<String> getClientCacheCollections() {
+        return clientCacheCollections;
+    }
+
+    /**
+     * @param collections collections the query reads from. A cached result is only used as long as the revisions of
+     *                    these collections did not change, which costs one request per collection instead of executing
+     *                    the query.
+     * @return options
+     */
+    public AqlQueryOptions clientCacheCollections(final String... collections) {
+        this.clientCacheCollections = Arrays.asList(collections);
+        return this;
+    }
+
     public Long getMemoryLimit() {
         return memoryLimit;
     }
@@ -36,6 +36,8 @@ public class DocumentImportOptions {
     private OnDuplicate onDuplicate;
     private Boolean complete;
     private Boolean details;
+    private Integer batchSize;
+    private Integer parallelism;
 
     public DocumentImportOptions() {
         super();
@@ -128,7 +130,8 @@ public class DocumentImportOptions {
 
     /**
      * @param complete If set to true, it will make the whole import fail if any error occurs. Otherwise the import will
-     *                 continue even if some documents cannot be imported.
+     *                 continue even if some documents cannot be imported. Not supported when importing JSON lines
+     *                 from a stream or file, since it would only apply to single batches.
      * @return options
      */
     public DocumentImportOptions complete(final Boolean complete) {
@@ -150,4 +153,32 @@ public class DocumentImportOptions {
         return this;
     }
 
+    public Integer getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize Number of JSON bytes after which a streamed import is split into the next request. Only used
+     *                  when importing JSON lines from a stream or file.
+     * @return options
+     */
+    public DocumentImportOptions batchSize(final Integer batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public Integer getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism Maximum number of batches of a streamed import which are sent concurrently. Only used when
+     *                    importing JSON lines from a stream or file.
+     * @return options
+     */
+    public DocumentImportOptions parallelism(final Integer parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
 }
@@ -0,0 +1,92 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * UTF-8 encoded JSON which is passed to and from the server without being mapped by a serializer. Can be used as
+ * document type, for example with {@code insertDocument}, {@code getDocument} and as cursor element type.
+ */
+public final class RawJson {
+
+    private final byte[] json;
+    private final int offset;
+    private final int length;
+
+    private RawJson(final byte[] json, final int offset, final int length) {
+        super();
+        this.json = json;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * @param json UTF-8 encoded JSON, which is used without copying it
+     * @return the raw JSON
+     */
+    public static RawJson of(final byte[] json) {
+        return new RawJson(json, 0, json.length);
+    }
+
+    /**
+     * @param json   buffer containing UTF-8 encoded JSON, which is used without copying it
+     * @param offset start of the JSON within the buffer
+     * @param length number of bytes of the JSON
+     * @return the raw JSON
+     */
+    public static RawJson of(final byte[] json, final int offset, final int length) {
+        return new RawJson(json, offset, length);
+    }
+
+    public static RawJson of(final String json) {
+        return of(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the buffer containing the JSON, see {@link #getOffset()} and {@link #getLength()}
+     */
+    public byte[] getBuffer() {
+        return json;
+    }
+
+    public int getOffset() {
+        return offset;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * @return the UTF-8 encoded JSON, copied only if it does not span the whole buffer
+     */
+    public byte[] getBytes() {
+        return offset == 0 && length == json.length ? json : Arrays.copyOfRange(json, offset, offset + length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, offset, length, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.util;
+
+import com.arangodb.velocypack.VPackSlice;
+
+import java.util.Arrays;
+
+/**
+ * VelocyPack which is passed to and from the server without being mapped by a serializer. Can be used as document
+ * type, for example with {@code insertDocument}, {@code getDocument} and as cursor element type.
+ */
+public final class RawVPack {
+
+    private final VPackSlice vpack;
+
+    private RawVPack(final VPackSlice vpack) {
+        super();
+        this.vpack = vpack;
+    }
+
+    /**
+     * @param vpack VelocyPack, which is used without copying it
+     * @return the raw VelocyPack
+     */
+    public static RawVPack of(final byte[] vpack) {
+        return new RawVPack(new VPackSlice(vpack));
+    }
+
+    /**
+     * @param vpack VelocyPack, which is used without copying it
+     * @return the raw VelocyPack
+     */
+    public static RawVPack of(final VPackSlice vpack) {
+        return new RawVPack(vpack);
+    }
+
+    public VPackSlice getSlice() {
+        return vpack;
+    }
+
+    /**
+     * @return the VelocyPack bytes, copied only if the value does not span the whole underlying buffer
+     */
+    public byte[] getBytes() {
+        final byte[] buffer = vpack.getBuffer();
+        final int start = vpack.getStart();
+        final int size = vpack.getByteSize();
+        return start == 0 && size == buffer.length ? buffer : Arrays.copyOfRange(buffer, start, start + size);
+    }
+
+    @Override
+    public String toString() {
+        return vpack.toString();
+    }
+
+}
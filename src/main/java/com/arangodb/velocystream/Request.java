@@ -23,6 +23,8 @@ package com.arangodb.velocystream;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.arangodb.internal.velocypack.VPackJsonConverter;
+import com.arangodb.util.RawJson;
 import com.arangodb.velocypack.VPackSlice;
 import com.arangodb.velocypack.annotations.Expose;
 
@@ -42,6 +44,8 @@ public class Request {
 	private VPackSlice body;
 	@Expose(serialize = false)
 	private String jsonBody="";
+	@Expose(serialize = false)
+	private RawJson rawJsonBody;
 
 	public Request(final String database, final RequestType requestType, final String path) {
 		super();
@@ -53,6 +57,24 @@ public class Request {
 		this.headerParam = new HashMap<>();
 	}
 
+	/**
+	 * Creates a request with the same target, query parameters and header parameters as the given one, but without
+	 * body.
+	 *
+	 * @param template the request to copy
+	 */
+	public Request(final Request template) {
+		super();
+		this.version = template.version;
+		this.type = template.type;
+		this.database = template.database;
+		this.requestType = template.requestType;
+		this.request = template.request;
+		this.body = null;
+		this.queryParam = new HashMap<>(template.queryParam);
+		this.headerParam = new HashMap<>(template.headerParam);
+	}
+
 	public int getVersion() {
 		return this.version;
 	}
@@ -105,7 +127,14 @@ public class Request {
 		return this;
 	}
 
+	/**
+	 * @return the VelocyPack body, parsed from the raw JSON body if only that has been set
+	 */
 	public VPackSlice getBody() {
+		if (this.body == null && this.rawJsonBody != null) {
+			this.body = VPackJsonConverter.fromJson(this.rawJsonBody.getBuffer(), this.rawJsonBody.getOffset(),
+				this.rawJsonBody.getLength(), true);
+		}
 		return this.body;
 	}
 
@@ -119,6 +148,30 @@ public class Request {
 		return this;
 	}
 
+	/**
+	 * Sets a body of UTF-8 encoded JSON, which is sent without conversion with the JSON protocol and converted to
+	 * VelocyPack otherwise.
+	 *
+	 * @param rawJsonBody the JSON body
+	 * @return this request
+	 */
+	public Request setJsonBody(final RawJson rawJsonBody) {
+		this.body = null;
+		this.rawJsonBody = rawJsonBody;
+		return this;
+	}
+
+	public RawJson getRawJsonBody() {
+		return this.rawJsonBody;
+	}
+
+	/**
+	 * @return whether or not a JSON body has been set or already been generated from the VelocyPack body
+	 */
+	public boolean hasJsonBody() {
+		return this.jsonBody != null && !this.jsonBody.isEmpty();
+	}
+
 	public String getJsonBody() {
 		if(this.body!=null && this.jsonBody.isEmpty()) {
 			this.jsonBody = this.body.toString();
@@ -0,0 +1,413 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.Protocol;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.net.JwtAuthentication;
+import com.arangodb.internal.net.ProxyDescription;
+import com.arangodb.internal.util.DirectByteArrayOutputStream;
+import com.arangodb.internal.util.IOUtils;
+import com.arangodb.internal.util.ResponseUtils;
+import com.arangodb.internal.velocypack.VPackJsonConverter;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.util.RawJson;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.net.ssl.SSLContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.Authenticator;
+import java.net.InetSocketAddress;
+import java.net.PasswordAuthentication;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP/2 connection backed by the JDK {@link HttpClient}. All requests sent through one instance are multiplexed over
+ * a single TCP connection per host.
+ */
+public class Http2Connection implements HttpRequestExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(Http2Connection.class);
+    private static final String CONTENT_TYPE_APPLICATION_JSON_UTF8 = "application/json; charset=utf-8";
+    private static final String CONTENT_TYPE_VPACK = "application/x-velocypack";
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; ArangoDB-JavaDriver/1.1; +http://mt.orz.at/)";
+    private static final String CONTENT_ENCODING_GZIP = "gzip";
+    private static final String CONTENT_ENCODING_DEFLATE = "deflate";
+    private static final String ACCEPT_ENCODING = CONTENT_ENCODING_GZIP + ", " + CONTENT_ENCODING_DEFLATE;
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final ExecutorService executor;
+    private final HttpClient.Builder clientBuilder;
+    private final Long ttl;
+    private volatile HttpClient client;
+    private volatile long clientExpiresAt;
+    private final ArangoSerialization util;
+    private final Protocol contentType;
+    private final String baseUrl;
+    private final String authorization;
+    private final JwtAuthentication jwt;
+    private final Duration timeout;
+    private final boolean acceptCompression;
+    private final Integer compressionThreshold;
+
+    public Http2Connection(final HttpConnection.Builder builder) {
+        super();
+        this.util = builder.util;
+        this.contentType = builder.contentType;
+        this.baseUrl = buildBaseUrl(builder.host, builder.path, builder.useSsl);
+        this.jwt = builder.user != null ? builder.jwt : null;
+        this.authorization = builder.user != null && this.jwt == null
+                ? basicAuthorization(builder.user, builder.password) : null;
+        this.timeout = builder.timeout != null && builder.timeout > 0 ? Duration.ofMillis(builder.timeout) : null;
+        this.acceptCompression = Boolean.FALSE != builder.acceptCompression;
+        this.compressionThreshold = builder.compressionThreshold;
+        this.ttl = builder.ttl != null && builder.ttl > 0 ? builder.ttl : null;
+        this.executor = Executors.newCachedThreadPool(r -> {
+            final Thread thread = new Thread(r, "arangodb-http2-" + THREAD_COUNTER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        clientBuilder = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2)
+                .executor(executor);
+        if (timeout != null) {
+            clientBuilder.connectTimeout(timeout);
+        }
+        if (Boolean.TRUE == builder.useSsl) {
+            try {
+                clientBuilder.sslContext(builder.sslContext != null ? builder.sslContext : SSLContext.getDefault());
+            } catch (final NoSuchAlgorithmException e) {
+                throw new ArangoDBException(e);
+            }
+        }
+        final ProxyDescription proxy = builder.host.getProxy();
+        if (proxy != null) {
+            clientBuilder.proxy(ProxySelector.of(new InetSocketAddress(proxy.getHost(), proxy.getPort())));
+            if (proxy.hasAuth()) {
+                clientBuilder.authenticator(new Authenticator() {
+                    @Override
+                    protected PasswordAuthentication getPasswordAuthentication() {
+                        if (getRequestorType() != RequestorType.PROXY) {
+                            return null;
+                        }
+                        final String password = proxy.getPassword() != null ? proxy.getPassword() : "";
+                        return new PasswordAuthentication(proxy.getUser(), password.toCharArray());
+                    }
+                });
+            }
+        }
+        this.client = createClient();
+    }
+
+    private HttpClient createClient() {
+        clientExpiresAt = ttl != null ? System.currentTimeMillis() + ttl : Long.MAX_VALUE;
+        return clientBuilder.build();
+    }
+
+    /**
+     * @return the client for the next request. After the connection time to live a new client, and with it a new TCP
+     * connection, replaces the current one, which completes the requests it already sent.
+     */
+    private HttpClient client() {
+        HttpClient current = this.client;
+        if (current == null) {
+            throw new ArangoDBException("Connection closed");
+        }
+        if (System.currentTimeMillis() >= clientExpiresAt) {
+            synchronized (this) {
+                current = this.client;
+                if (current != null && System.currentTimeMillis() >= clientExpiresAt) {
+                    final HttpClient expired = current;
+                    current = createClient();
+                    this.client = current;
+                    shutdown(expired, "shutdown");
+                }
+            }
+        }
+        if (current == null) {
+            throw new ArangoDBException("Connection closed");
+        }
+        return current;
+    }
+
+    /**
+     * Since JDK 21 the client can be shut down explicitly. Before, its selector thread terminates as soon as the client
+     * is no longer referenced.
+     *
+     * @param method {@code shutdown} to let sent requests complete, {@code shutdownNow} to abort them
+     */
+    private static void shutdown(final HttpClient client, final String method) {
+        try {
+            HttpClient.class.getMethod(method).invoke(client);
+        } catch (final NoSuchMethodException e) {
+            // JDK < 21
+        } catch (final ReflectiveOperationException e) {
+            LOGGER.debug("Shutting down HTTP/2 client failed", e);
+        }
+    }
+
+    private static String basicAuthorization(final String user, final String password) {
+        final String credentials = user + ":" + (password != null ? password : "");
+        return "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String buildBaseUrl(final HostDescription host, final String path, final Boolean useSsl) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(Boolean.TRUE == useSsl ? "https://" : "http://");
+        sb.append(host.getHost()).append(':').append(host.getPort());
+        if (path != null && !path.isEmpty()) {
+            if (path.charAt(0) != '/') {
+                sb.append('/');
+            }
+            sb.append(path);
+        }
+        /* removing the last '/' char, if any */
+        if (sb.charAt(sb.length() - 1) == '/') {
+            sb.setLength(sb.length() - 1);
+        }
+        return sb.toString();
+    }
+
+    private static String buildUrl(final String baseUrl, final Request request) {
+        final StringBuilder sb = new StringBuilder().append(baseUrl);
+        final String database = request.getDatabase();
+        if (database != null && !database.isEmpty()) {
+            sb.append("/_db/").append(database);
+        }
+        sb.append(request.getRequest());
+        char separator = request.getRequest().contains("?") ? '&' : '?';
+        for (final Entry<String, String> param : request.getQueryParam().entrySet()) {
+            if (param.getValue() != null) {
+                sb.append(separator).append(encode(param.getKey())).append('=').append(encode(param.getValue()));
+                separator = '&';
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String encode(final String value) {
+        try {
+            return URLEncoder.encode(value, "utf-8");
+        } catch (final UnsupportedEncodingException e) {
+            throw new ArangoDBException(e);
+        }
+    }
+
+    private static boolean hasBody(final Request request) {
+        switch (request.getRequestType()) {
+            case POST:
+            case PUT:
+            case PATCH:
+            case DELETE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private ByteBuffer buildBody(final Request request) {
+        if (this.contentType == Protocol.HTTP2_VPACK) {
+            VPackSlice body = request.getBody();
+            if (body == null && request.hasJsonBody()) {
+                body = this.util.serialize(request.getJsonBody());
+            }
+            return body != null ? ByteBuffer.wrap(body.getBuffer(), body.getStart(), body.getByteSize()) : null;
+        }
+        if (request.getRawJsonBody() != null) {
+            final RawJson json = request.getRawJsonBody();
+            return ByteBuffer.wrap(json.getBuffer(), json.getOffset(), json.getLength());
+        }
+        if (request.getBody() != null && !request.hasJsonBody()) {
+            final DirectByteArrayOutputStream json = new DirectByteArrayOutputStream(request.getBody().getByteSize());
+            try {
+                VPackJsonConverter.toJson(request.getBody(), json, true);
+            } catch (final IOException e) {
+                throw new ArangoDBException(e);
+            }
+            return ByteBuffer.wrap(json.getBuffer(), 0, json.size());
+        }
+        final String json = request.getJsonBody();
+        return json != null ? ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)) : null;
+    }
+
+    private static ByteBuffer compress(final ByteBuffer body) throws IOException {
+        final DirectByteArrayOutputStream compressed = new DirectByteArrayOutputStream(body.remaining() / 4 + 64);
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(body.array(), body.arrayOffset() + body.position(), body.remaining());
+        }
+        return ByteBuffer.wrap(compressed.getBuffer(), 0, compressed.size());
+    }
+
+    @Override
+    public Response execute(final Request request) throws ArangoDBException, IOException {
+        final HttpRequest.Builder httpRequest = buildHttpRequest(request);
+        String token = null;
+        if (this.jwt != null) {
+            token = this.jwt.getAuthorization(this::executeUnauthenticated);
+            httpRequest.setHeader("Authorization", token);
+        } else if (this.authorization != null) {
+            httpRequest.setHeader("Authorization", this.authorization);
+        }
+        Response response = send(httpRequest);
+        if (token != null && response.getResponseCode() == 401) {
+            // the token was rejected (e.g. after a server restart), retry once with a fresh one
+            this.jwt.invalidate(token);
+            httpRequest.setHeader("Authorization", this.jwt.getAuthorization(this::executeUnauthenticated));
+            response = send(httpRequest);
+        }
+        ResponseUtils.checkError(this.util, response);
+        return response;
+    }
+
+    private Response executeUnauthenticated(final Request request) throws IOException {
+        final Response response = send(buildHttpRequest(request));
+        ResponseUtils.checkError(this.util, response);
+        return response;
+    }
+
+    private HttpRequest.Builder buildHttpRequest(final Request request) throws IOException {
+        final String url = buildUrl(this.baseUrl, request);
+        final HttpRequest.Builder httpRequest = HttpRequest.newBuilder(URI.create(url)).header("User-Agent",
+                USER_AGENT);
+        BodyPublisher body = BodyPublishers.noBody();
+        if (hasBody(request)) {
+            httpRequest.header("Content-Type",
+                    this.contentType == Protocol.HTTP2_VPACK ? CONTENT_TYPE_VPACK : CONTENT_TYPE_APPLICATION_JSON_UTF8);
+            ByteBuffer content = buildBody(request);
+            if (content != null) {
+                if (this.compressionThreshold != null && content.remaining() >= this.compressionThreshold) {
+                    content = compress(content);
+                    httpRequest.header("Content-Encoding", CONTENT_ENCODING_GZIP);
+                }
+                body = BodyPublishers.ofByteArray(content.array(), content.arrayOffset() + content.position(),
+                        content.remaining());
+            }
+        }
+        httpRequest.method(request.getRequestType().name(), body);
+        if (this.timeout != null) {
+            httpRequest.timeout(this.timeout);
+        }
+        if (this.contentType == Protocol.HTTP2_VPACK) {
+            httpRequest.header("Accept", CONTENT_TYPE_VPACK);
+        }
+        if (this.acceptCompression) {
+            httpRequest.header("Accept-Encoding", ACCEPT_ENCODING);
+        }
+        for (final Entry<String, String> header : request.getHeaderParam().entrySet()) {
+            httpRequest.header(header.getKey(), header.getValue());
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("[HTTP/2] {} {}", request.getRequestType(), url);
+        }
+        return httpRequest;
+    }
+
+    private Response send(final HttpRequest.Builder httpRequest) throws IOException {
+        final HttpResponse<InputStream> httpResponse;
+        try {
+            httpResponse = client().send(httpRequest.build(), BodyHandlers.ofInputStream());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ArangoDBException(e);
+        }
+        return buildResponse(httpResponse);
+    }
+
+    private Response buildResponse(final HttpResponse<InputStream> httpResponse) throws IOException {
+        final Response response = new Response();
+        response.setResponseCode(httpResponse.statusCode());
+        // HTTP/2 header names are lower case
+        final Map<String, String> meta = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        for (final Entry<String, List<String>> header : httpResponse.headers().map().entrySet()) {
+            if (!header.getValue().isEmpty()) {
+                meta.put(header.getKey(), header.getValue().get(0));
+            }
+        }
+        response.setMeta(meta);
+        final byte[] content = readBody(httpResponse.body(), meta.get("Content-Encoding"),
+                httpResponse.headers().firstValueAsLong("Content-Length").orElse(-1L));
+        if (content.length > 0) {
+            if (this.contentType == Protocol.HTTP2_VPACK) {
+                response.setBody(new VPackSlice(content));
+            } else {
+                response.setBody(VPackJsonConverter.fromJson(content, 0, content.length, true));
+            }
+        }
+        return response;
+    }
+
+    private static byte[] readBody(final InputStream body, final String contentEncoding, final long contentLength)
+            throws IOException {
+        try (final InputStream in = body) {
+            if (contentEncoding == null || "identity".equalsIgnoreCase(contentEncoding)) {
+                return IOUtils.toByteArray(in, contentLength);
+            }
+            if (CONTENT_ENCODING_GZIP.equalsIgnoreCase(contentEncoding)) {
+                return IOUtils.toByteArray(new GZIPInputStream(in), -1);
+            }
+            if (CONTENT_ENCODING_DEFLATE.equalsIgnoreCase(contentEncoding)) {
+                return IOUtils.toByteArray(new InflaterInputStream(in), -1);
+            }
+            throw new ArangoDBException(String.format("Unsupported Content-Encoding: %s", contentEncoding));
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        final HttpClient current = this.client;
+        this.client = null;
+        if (current != null) {
+            shutdown(current, "shutdownNow");
+        }
+        this.executor.shutdownNow();
+    }
+
+}
@@ -31,9 +31,13 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.Matchers.*;
@@ -1492,6 +1496,36 @@ public class ArangoCollectionTest extends BaseTest {
         assertThat(db.collection(COLLECTION_NAME).count().getCount(), is(2L));
     }
 
+    @Test
+    public void insertDocumentsCompact() {
+        final BaseDocument doc = new BaseDocument();
+        doc.addAttribute("value", "a");
+        final BaseDocument duplicate = new BaseDocument(db.collection(COLLECTION_NAME).insertDocument(doc).getKey());
+        final BaseDocument first = new BaseDocument();
+        final MultiDocumentKeysEntity<BaseDocument> docs = db.collection(COLLECTION_NAME)
+                .insertDocumentsCompact(Arrays.asList(first, duplicate, new BaseDocument()),
+                        new DocumentCreateOptions().returnNew(true));
+        assertThat(docs.size(), is(3));
+        assertThat(docs.getKey(0), is(notNullValue()));
+        assertThat(docs.getRev(0), is(notNullValue()));
+        assertThat(first.getKey(), is(docs.getKey(0)));
+        assertThat(first.getId(), is(COLLECTION_NAME + "/" + docs.getKey(0)));
+        assertThat(first.getRevision(), is(docs.getRev(0)));
+        assertThat(docs.getNew(0).getKey(), is(docs.getKey(0)));
+        assertThat(docs.getKey(1), is(nullValue()));
+        assertThat(docs.getErrorIndexes().length, is(1));
+        assertThat(docs.getErrorIndexes()[0], is(1));
+        assertThat(docs.getError(1).getErrorNum(), is(1210));
+        assertThat(docs.getError(2), is(nullValue()));
+        assertThat(docs.getOld(0), is(nullValue()));
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void insertDocumentsCompactSilent() {
+        db.collection(COLLECTION_NAME).insertDocumentsCompact(Arrays.asList(new BaseDocument(), new BaseDocument()),
+                new DocumentCreateOptions().silent(true));
+    }
+
     @Test
     public void insertDocumentsJson() {
         final Collection<String> values = new ArrayList<>();
@@ -1744,6 +1778,45 @@ public class ArangoCollectionTest extends BaseTest {
         assertThat(collection.count().getCount(), is(2L));
     }
 
+    private static InputStream jsonLines(final String... keys) {
+        final StringBuilder lines = new StringBuilder();
+        for (final String key : keys) {
+            lines.append("{\"_key\":\"").append(key).append("\"}\n");
+        }
+        return new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void importDocumentsStreamOverwriteTrue() {
+        final ArangoCollection collection = db.collection(COLLECTION_NAME);
+        collection.insertDocument(new BaseDocument());
+        assertThat(collection.count().getCount(), is(1L));
+
+        final String[] keys = IntStream.range(0, 100).mapToObj(String::valueOf).toArray(String[]::new);
+        final DocumentImportEntity result = collection.importDocuments(jsonLines(keys),
+                new DocumentImportOptions().overwrite(true).batchSize(64).parallelism(4));
+        assertThat(result.getCreated(), is(keys.length));
+        assertThat(collection.count().getCount(), is((long) keys.length));
+    }
+
+    @Test
+    public void importDocumentsStreamDetails() {
+        final String[] keys = IntStream.range(0, 50).mapToObj(String::valueOf).toArray(String[]::new);
+        final String[] withDuplicate = Arrays.copyOf(keys, keys.length + 1);
+        withDuplicate[keys.length] = keys[0];
+        final DocumentImportEntity result = db.collection(COLLECTION_NAME).importDocuments(jsonLines(withDuplicate),
+                new DocumentImportOptions().details(true).batchSize(64).parallelism(4));
+        assertThat(result.getCreated(), is(keys.length));
+        assertThat(result.getErrors(), is(1));
+        assertThat(result.getDetails().size(), is(1));
+        assertThat(result.getDetails().iterator().next(), startsWith("at position " + keys.length + ":"));
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void importDocumentsStreamComplete() {
+        db.collection(COLLECTION_NAME).importDocuments(jsonLines("1", "2"), new DocumentImportOptions().complete(true));
+    }
+
     @Test
     public void importDocumentsFromToPrefix() {
         db.createCollection(COLLECTION_NAME + "_edge", new CollectionCreateOptions().type(CollectionType.EDGES));
@@ -2300,6 +2373,36 @@ public class ArangoCollectionTest extends BaseTest {
         assertThat(shard.getShardId(), is(notNullValue()));
     }
 
+    @Test
+    public void parallelScanSingleServer() {
+        assumeTrue(isSingleServer());
+        parallelScan(db.collection(COLLECTION_NAME));
+    }
+
+    @Test
+    public void parallelScanShards() {
+        assumeTrue(isCluster());
+        final ArangoCollection collection = db.collection(COLLECTION_NAME);
+        collection.drop();
+        collection.create(new CollectionCreateOptions().numberOfShards(4));
+        assertThat(collection.getProperties().getNumberOfShards(), is(4));
+        parallelScan(collection);
+    }
+
+    private void parallelScan(final ArangoCollection collection) {
+        final List<BaseDocument> values = IntStream.range(0, 100)
+                .mapToObj(i -> new BaseDocument(String.valueOf(i)))
+                .collect(Collectors.toList());
+        collection.insertDocuments(values);
+        try (final Stream<BaseDocument> documents = collection.parallelScan(BaseDocument.class, 2)) {
+            assertThat(documents.map(BaseDocument::getKey).collect(Collectors.toSet()),
+                    is(values.stream().map(BaseDocument::getKey).collect(Collectors.toSet())));
+        }
+        try (final Stream<BaseDocument> documents = collection.parallelScan(BaseDocument.class, 2)) {
+            assertThat(documents.findFirst().isPresent(), is(true));
+        }
+    }
+
     @Test
     public void renameDontBreaksCollectionHandler() {
         assumeTrue(isSingleServer());
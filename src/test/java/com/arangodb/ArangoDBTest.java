@@ -50,11 +50,7 @@ public class ArangoDBTest {
 
     @Parameters
     public static Collection<ArangoDB.Builder> builders() {
-        return Arrays.asList(//
-                new ArangoDB.Builder().useProtocol(Protocol.VST), //
-                new ArangoDB.Builder().useProtocol(Protocol.HTTP_JSON), //
-                new ArangoDB.Builder().useProtocol(Protocol.HTTP_VPACK) //
-        );
+        return BaseTest.builders();
     }
 
     private static final String ROOT = "root";
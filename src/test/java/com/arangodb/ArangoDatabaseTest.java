@@ -877,6 +877,93 @@ public class ArangoDatabaseTest extends BaseTest {
         }
     }
 
+    @Test
+    public void preparedQuery() {
+        try {
+            db.createCollection(COLLECTION_NAME, null);
+            for (int i = 0; i < 10; i++) {
+                final BaseDocument baseDocument = new BaseDocument();
+                baseDocument.addAttribute("age", 20 + i);
+                db.collection(COLLECTION_NAME).insertDocument(baseDocument, null);
+            }
+            final PreparedQuery<Long> query = db.prepareQuery(
+                    "FOR t IN @@coll FILTER t.age >= @age SORT t.age RETURN t.age", new AqlQueryOptions().count(true),
+                    Long.class);
+            for (int age = 20; age < 30; age++) {
+                final Map<String, Object> bindVars = new HashMap<>();
+                bindVars.put("@coll", COLLECTION_NAME);
+                bindVars.put("age", age);
+                final ArangoCursor<Long> cursor = query.execute(bindVars);
+                assertThat(cursor.getCount(), is(30 - age));
+                assertThat(cursor.next(), is((long) age));
+            }
+        } finally {
+            db.collection(COLLECTION_NAME).drop();
+        }
+    }
+
+    @Test
+    public void queryWithAdaptiveBatchSize() {
+        final AqlQueryOptions options = new AqlQueryOptions().adaptiveBatchSize(true);
+        final String query = "FOR i IN 1..@n RETURN i";
+        final PreparedQuery<Integer> prepared = db.prepareQuery(query, options, Integer.class);
+        for (int i = 0; i < 3; i++) {
+            assertThat(db.query(query, Collections.singletonMap("n", 5000), options, Integer.class)
+                    .asListRemaining().size(), is(5000));
+            assertThat(prepared.execute(Collections.singletonMap("n", 5000)).asListRemaining().size(), is(5000));
+            assertThat(options.getBatchSize(), is(nullValue()));
+        }
+    }
+
+    @Test
+    public void clientCachedQuery() throws InterruptedException {
+        final ArangoDB cachingArangoDB = new ArangoDB.Builder().queryResultCacheSize(10).queryResultCacheTtl(1000L)
+                .build();
+        try {
+            db.createCollection(COLLECTION_NAME, null);
+            final ArangoCollection collection = db.collection(COLLECTION_NAME);
+            collection.insertDocument(new BaseDocument());
+            final ArangoDatabase cachingDb = cachingArangoDB.db(TEST_DB);
+            final String query = "FOR d IN " + COLLECTION_NAME + " RETURN d";
+            final AqlQueryOptions options = new AqlQueryOptions().clientCache(true);
+            assertThat(cachingDb.query(query, options, BaseDocument.class).asListRemaining().size(), is(1));
+
+            // the collection is not declared, so its changes are not noticed until the entry expires
+            collection.insertDocument(new BaseDocument());
+            assertThat(cachingDb.query(query, options, BaseDocument.class).asListRemaining().size(), is(1));
+            assertThat(cachingDb.query(query, new AqlQueryOptions().clientCache(true).allowDirtyRead(true),
+                    BaseDocument.class).asListRemaining().size(), is(2));
+
+            Thread.sleep(1500);
+            assertThat(cachingDb.query(query, options, BaseDocument.class).asListRemaining().size(), is(2));
+        } finally {
+            cachingArangoDB.shutdown();
+            db.collection(COLLECTION_NAME).drop();
+        }
+    }
+
+    @Test
+    public void clientCachedQueryRevision() {
+        final ArangoDB cachingArangoDB = new ArangoDB.Builder().queryResultCacheSize(10).build();
+        try {
+            db.createCollection(COLLECTION_NAME, null);
+            final ArangoCollection collection = db.collection(COLLECTION_NAME);
+            collection.insertDocument(new BaseDocument());
+            final ArangoDatabase cachingDb = cachingArangoDB.db(TEST_DB);
+            final String query = "FOR d IN " + COLLECTION_NAME + " RETURN d";
+            final AqlQueryOptions options = new AqlQueryOptions().clientCache(true)
+                    .clientCacheCollections(COLLECTION_NAME);
+            assertThat(cachingDb.query(query, options, BaseDocument.class).asListRemaining().size(), is(1));
+            assertThat(cachingDb.query(query, options, BaseDocument.class).asListRemaining().size(), is(1));
+
+            collection.insertDocument(new BaseDocument());
+            assertThat(cachingDb.query(query, options, BaseDocument.class).asListRemaining().size(), is(2));
+        } finally {
+            cachingArangoDB.shutdown();
+            db.collection(COLLECTION_NAME).drop();
+        }
+    }
+
     @Test
     public void queryWithWarning() {
         final ArangoCursor<String> cursor = arangoDB.db().query("return 1/0", null, null, String.class);
@@ -26,6 +26,7 @@ import com.arangodb.entity.ServerRole;
 import org.junit.AfterClass;
 import org.junit.runners.Parameterized.Parameters;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 
@@ -37,11 +38,42 @@ public abstract class BaseTest {
 
     @Parameters
     public static Collection<ArangoDB.Builder> builders() {
-        return Arrays.asList(//
+        final Collection<ArangoDB.Builder> builders = new ArrayList<>(Arrays.asList(//
                 new ArangoDB.Builder().useProtocol(Protocol.VST), //
                 new ArangoDB.Builder().useProtocol(Protocol.HTTP_JSON), //
                 new ArangoDB.Builder().useProtocol(Protocol.HTTP_VPACK) //
-        );
+        ));
+        if (isHttp2Supported()) {
+            builders.add(new ArangoDB.Builder().useProtocol(Protocol.HTTP2_JSON));
+            builders.add(new ArangoDB.Builder().useProtocol(Protocol.HTTP2_VPACK));
+        }
+        return builders;
+    }
+
+    /**
+     * @return whether the HTTP/2 protocols are available
+     */
+    static boolean isAtLeastJava11() {
+        return !System.getProperty("java.specification.version").startsWith("1.");
+    }
+
+    /**
+     * @return whether the HTTP/2 protocols are available and the server (ArangoDB 3.7 or later) speaks HTTP/2
+     */
+    static boolean isHttp2Supported() {
+        if (!isAtLeastJava11()) {
+            return false;
+        }
+        final ArangoDB arangoDB = new ArangoDB.Builder().build();
+        try {
+            final String[] split = arangoDB.getVersion().getVersion().split("\\.");
+            final int major = Integer.parseInt(split[0]);
+            return major > 3 || (major == 3 && Integer.parseInt(split[1]) >= 7);
+        } catch (final ArangoDBException e) {
+            return false;
+        } finally {
+            arangoDB.shutdown();
+        }
     }
 
     static final String TEST_DB = "java_driver_test_db";
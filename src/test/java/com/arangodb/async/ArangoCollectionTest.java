@@ -1203,6 +1203,19 @@ public class ArangoCollectionTest extends BaseTest {
                 .get();
     }
 
+    @Test
+    public void insertDocumentsCompactSilent() throws InterruptedException {
+        final CompletableFuture<MultiDocumentKeysEntity<BaseDocument>> future = db.collection(COLLECTION_NAME)
+                .insertDocumentsCompact(Arrays.asList(new BaseDocument(), new BaseDocument()),
+                        new DocumentCreateOptions().silent(true));
+        try {
+            future.get();
+            fail();
+        } catch (final ExecutionException e) {
+            assertThat(e.getCause(), instanceOf(ArangoDBException.class));
+        }
+    }
+
     @Test
     public void insertDocuments() throws InterruptedException, ExecutionException {
         final Collection<BaseDocument> values = new ArrayList<>();
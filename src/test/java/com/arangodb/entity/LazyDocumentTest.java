@@ -0,0 +1,100 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.entity;
+
+import com.arangodb.internal.velocypack.VPackDriverModule;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class LazyDocumentTest {
+
+    private final VPack vpacker = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+
+    private static VPackSlice document() {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add("_id", "test/test");
+        builder.add("_key", "test");
+        builder.add("_rev", "rev");
+        builder.add("a", "a");
+        builder.add("n", 5);
+        builder.add("o", ValueType.OBJECT);
+        builder.add("x", 1);
+        builder.close();
+        builder.add("l", ValueType.ARRAY);
+        builder.add("l0");
+        builder.add("l1");
+        builder.close();
+        builder.add("nil", ValueType.NULL);
+        builder.close();
+        return builder.slice();
+    }
+
+    @Test
+    public void deserialize() {
+        final LazyDocument doc = vpacker.deserialize(document(), LazyDocument.class);
+        assertThat(doc.getId(), is("test/test"));
+        assertThat(doc.getKey(), is("test"));
+        assertThat(doc.getRevision(), is("rev"));
+        assertThat(doc.getFrom(), is(nullValue()));
+        assertThat(doc.getAttribute("a"), is("a"));
+        assertThat(doc.getAttribute("n", Integer.class), is(5));
+        assertThat(((Map<?, ?>) doc.getAttribute("o")).get("x"), is(1L));
+        assertThat(doc.<List<String>>getAttribute("l", List.class), contains("l0", "l1"));
+        assertThat(doc.getAttribute("nil"), is(nullValue()));
+        assertThat(doc.getAttribute("missing"), is(nullValue()));
+        assertThat(doc.containsAttribute("nil"), is(true));
+        assertThat(doc.containsAttribute("missing"), is(false));
+        assertThat(doc.getAttributeNames().containsAll(Arrays.asList("_id", "_key", "_rev", "a", "n", "o", "l", "nil")),
+                is(true));
+    }
+
+    @Test
+    public void toBaseDocument() {
+        final LazyDocument lazy = vpacker.deserialize(document(), LazyDocument.class);
+        final BaseDocument doc = lazy.toBaseDocument();
+        assertThat(doc.getKey(), is("test"));
+        assertThat(doc.getAttribute("a"), is("a"));
+        assertThat(doc.getProperties().containsKey("_key"), is(false));
+    }
+
+    @Test
+    public void serialize() {
+        final VPackSlice vpack = document();
+        final LazyDocument doc = vpacker.deserialize(vpack, LazyDocument.class);
+        final VPackSlice serialized = vpacker.serialize(doc);
+        assertThat(serialized.getByteSize(), is(vpack.getByteSize()));
+        assertThat(serialized.get("o").get("x").getAsInt(), is(1));
+    }
+
+}
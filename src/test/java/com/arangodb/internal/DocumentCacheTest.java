@@ -21,6 +21,7 @@
 package com.arangodb.internal;
 
 import com.arangodb.entity.BaseDocument;
+import com.arangodb.entity.DocumentField;
 import com.arangodb.entity.DocumentField.Type;
 import org.junit.Test;
 
@@ -69,4 +70,53 @@ public class DocumentCacheTest {
 
         assertThat(map.isEmpty(), is(true));
     }
+
+    @Test
+    public void setKeyIdRev() {
+        final DocumentCache cache = new DocumentCache();
+        final BaseDocument doc = new BaseDocument();
+
+        cache.setKeyIdRev(doc, "testId", "testKey", "testRev");
+        assertThat(doc.getId(), is("testId"));
+        assertThat(doc.getKey(), is("testKey"));
+        assertThat(doc.getRevision(), is("testRev"));
+
+        cache.setKeyIdRev(doc, null, null, "newRev");
+        assertThat(doc.getId(), is("testId"));
+        assertThat(doc.getKey(), is("testKey"));
+        assertThat(doc.getRevision(), is("newRev"));
+    }
+
+    static class DocumentId {
+    }
+
+    static class NonStringFields {
+        @DocumentField(Type.ID)
+        private Object id;
+        @DocumentField(Type.KEY)
+        private DocumentId key;
+        @DocumentField(Type.REV)
+        private String rev;
+    }
+
+    @Test
+    public void setValuesNonStringFields() {
+        final DocumentCache cache = new DocumentCache();
+        final NonStringFields doc = new NonStringFields();
+        final DocumentId key = new DocumentId();
+        doc.key = key;
+
+        cache.setKeyIdRev(doc, "testId", "testKey", "testRev");
+        assertThat(doc.id, is(nullValue()));
+        assertThat(doc.key, is(key));
+        assertThat(doc.rev, is("testRev"));
+    }
+
+    @Test
+    public void setKeyIdRevMap() {
+        final DocumentCache cache = new DocumentCache();
+        final Map<String, String> map = new HashMap<>();
+        cache.setKeyIdRev(map, "testId", "testKey", "testRev");
+        assertThat(map.isEmpty(), is(true));
+    }
 }
@@ -0,0 +1,159 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal;
+
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.util.RequestUtils;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class QueryResultCacheTest {
+
+    private static final VPackParser PARSER = new VPackParser.Builder().build();
+    private static final Map<String, String> NO_REVISIONS = Collections.emptyMap();
+
+    private static VPackSlice body(final String query, final String bindVars) {
+        return PARSER.fromJson("{\"query\":" + PARSER.toJson(new VPackBuilder().add(query)
+                .slice()) + ",\"bindVars\":" + bindVars + ",\"count\":true}");
+    }
+
+    private static QueryResultCache.Key key(final QueryResultCache cache, final String query, final String bindVars) {
+        return cache.key("db", query, body(query, bindVars), Collections.emptyMap());
+    }
+
+    private static CursorEntity result(final boolean hasMore) {
+        return new CursorEntity(null, null, null, null, hasMore, PARSER.fromJson("[1,2,3]"));
+    }
+
+    @Test
+    public void normalize() {
+        assertThat(QueryResultCache.normalize("  FOR d IN c // comment\n  FILTER d.a == \"x  y\" /* c */ RETURN d "),
+                is("FOR d IN c FILTER d.a == \"x  y\" RETURN d"));
+        assertThat(QueryResultCache.normalize("RETURN 'it\\'s  ok'"), is("RETURN 'it\\'s  ok'"));
+    }
+
+    @Test
+    public void sameKeyForDifferentFormatting() {
+        final QueryResultCache cache = new QueryResultCache(10, Long.MAX_VALUE, 60000L);
+        assertThat(key(cache, "FOR d IN c\n  RETURN d", "{\"a\":1}"),
+                is(key(cache, "FOR d IN c RETURN d", "{\"a\":1}")));
+        assertThat(key(cache, "FOR d IN c RETURN d", "{\"a\":1}"),
+                is(not(key(cache, "FOR d IN c RETURN d", "{\"a\":2}"))));
+    }
+
+    @Test
+    public void differentKeyForDifferentHeaders() {
+        final QueryResultCache cache = new QueryResultCache(10, Long.MAX_VALUE, 60000L);
+        final VPackSlice body = body("FOR d IN c RETURN d", "{}");
+        assertThat(cache.key("db", "FOR d IN c RETURN d", body, Collections.emptyMap()),
+                is(not(cache.key("db", "FOR d IN c RETURN d", body,
+                        Collections.singletonMap(RequestUtils.HEADER_ALLOW_DIRTY_READ, "true")))));
+        assertThat(cache.key("db", "FOR d IN c RETURN d", body, Collections.singletonMap("x-arango-trx-id", "1")),
+                is(cache.key("db", "FOR d IN c RETURN d", body, Collections.singletonMap("x-arango-trx-id", "1"))));
+    }
+
+    @Test
+    public void getAndPut() {
+        final QueryResultCache cache = new QueryResultCache(10, Long.MAX_VALUE, 60000L);
+        final QueryResultCache.Key key = key(cache, "FOR d IN c RETURN d", "{}");
+        assertThat(cache.get(key, NO_REVISIONS), is(nullValue()));
+        final CursorEntity result = result(false);
+        cache.put(key, result, NO_REVISIONS);
+        assertThat(cache.get(key, NO_REVISIONS), is(sameInstance(result)));
+    }
+
+    @Test
+    public void skipIncompleteResults() {
+        final QueryResultCache cache = new QueryResultCache(10, Long.MAX_VALUE, 60000L);
+        final QueryResultCache.Key key = key(cache, "FOR d IN c RETURN d", "{}");
+        cache.put(key, result(true), NO_REVISIONS);
+        assertThat(cache.get(key, NO_REVISIONS), is(nullValue()));
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        final QueryResultCache cache = new QueryResultCache(2, Long.MAX_VALUE, 60000L);
+        final QueryResultCache.Key first = key(cache, "RETURN 1", "{}");
+        final QueryResultCache.Key second = key(cache, "RETURN 2", "{}");
+        final QueryResultCache.Key third = key(cache, "RETURN 3", "{}");
+        cache.put(first, result(false), NO_REVISIONS);
+        cache.put(second, result(false), NO_REVISIONS);
+        cache.get(first, NO_REVISIONS);
+        cache.put(third, result(false), NO_REVISIONS);
+        assertThat(cache.get(second, NO_REVISIONS), is(nullValue()));
+        assertThat(cache.get(first, NO_REVISIONS), is(not(nullValue())));
+        assertThat(cache.get(third, NO_REVISIONS), is(not(nullValue())));
+    }
+
+    @Test
+    public void evictBySize() {
+        final long size = result(false).getResult().getBuffer().length;
+        final QueryResultCache cache = new QueryResultCache(10, 2 * size, 60000L);
+        final QueryResultCache.Key first = key(cache, "RETURN 1", "{}");
+        final QueryResultCache.Key second = key(cache, "RETURN 2", "{}");
+        final QueryResultCache.Key third = key(cache, "RETURN 3", "{}");
+        cache.put(first, result(false), NO_REVISIONS);
+        cache.put(second, result(false), NO_REVISIONS);
+        cache.put(third, result(false), NO_REVISIONS);
+        assertThat(cache.get(first, NO_REVISIONS), is(nullValue()));
+        assertThat(cache.get(second, NO_REVISIONS), is(not(nullValue())));
+        assertThat(cache.get(third, NO_REVISIONS), is(not(nullValue())));
+    }
+
+    @Test
+    public void skipResultsLargerThanCache() {
+        final CursorEntity result = result(false);
+        final QueryResultCache cache = new QueryResultCache(10, result.getResult().getBuffer().length - 1, 60000L);
+        final QueryResultCache.Key key = key(cache, "RETURN 1", "{}");
+        cache.put(key, result, NO_REVISIONS);
+        assertThat(cache.get(key, NO_REVISIONS), is(nullValue()));
+    }
+
+    @Test
+    public void expire() {
+        final QueryResultCache cache = new QueryResultCache(10, Long.MAX_VALUE, 0L);
+        final QueryResultCache.Key key = key(cache, "RETURN 1", "{}");
+        cache.put(key, result(false), NO_REVISIONS);
+        assertThat(cache.get(key, NO_REVISIONS), is(nullValue()));
+    }
+
+    @Test
+    public void invalidateOnRevisionChange() {
+        final QueryResultCache cache = new QueryResultCache(10, Long.MAX_VALUE, 60000L);
+        final QueryResultCache.Key key = key(cache, "FOR d IN c RETURN d", "{}");
+        cache.put(key, result(false), Collections.singletonMap("c", "1"));
+        assertThat(cache.get(key, Collections.singletonMap("c", "1")), is(not(nullValue())));
+        assertThat(cache.get(key, Collections.singletonMap("c", "2")), is(nullValue()));
+        assertThat(cache.get(key, Collections.singletonMap("c", "1")), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.velocypack.VPackSlice;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ArangoCursorStreamTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int BATCHES = 5;
+
+    private static List<Integer> expected() {
+        return IntStream.range(0, BATCH_SIZE * BATCHES).boxed().collect(Collectors.toList());
+    }
+
+    @Test
+    public void stream() {
+        final IntegerCursor cursor = new IntegerCursor(BATCHES, BATCH_SIZE);
+        assertThat(cursor.stream().collect(Collectors.toList()), is(expected()));
+        assertThat(cursor.hasNext(), is(false));
+    }
+
+    @Test
+    public void parallelStream() {
+        final IntegerCursor cursor = new IntegerCursor(BATCHES, BATCH_SIZE);
+        assertThat(cursor.parallelStream().map(i -> i).collect(Collectors.toList()), is(expected()));
+        assertThat(cursor.hasNext(), is(false));
+    }
+
+    @Test
+    public void streamAfterNext() {
+        final IntegerCursor cursor = new IntegerCursor(BATCHES, BATCH_SIZE);
+        final List<Integer> consumed = new ArrayList<>();
+        consumed.add(cursor.next());
+        consumed.addAll(cursor.parallelStream().collect(Collectors.toList()));
+        assertThat(consumed, is(expected()));
+    }
+
+    @Test
+    public void longStream() {
+        final IntegerCursor cursor = new IntegerCursor(BATCHES, BATCH_SIZE);
+        final long first = cursor.next();
+        final long sum = IntStream.range(0, BATCH_SIZE * BATCHES).asLongStream().sum();
+        assertThat(first + cursor.asLongStream().sum(), is(sum));
+        assertThat(cursor.hasNext(), is(false));
+    }
+
+    @Test
+    public void doubleStream() {
+        final IntegerCursor cursor = new IntegerCursor(BATCHES, BATCH_SIZE);
+        assertThat(cursor.asDoubleStream().limit(BATCH_SIZE + 1).max().getAsDouble(), is((double) BATCH_SIZE));
+        // the stream stopped early, the cursor continues after the last element it read
+        assertThat(cursor.next(), is(BATCH_SIZE + 1));
+    }
+
+    @Test
+    public void spillableListRemaining() {
+        final IntegerCursor cursor = new IntegerCursor(BATCHES, BATCH_SIZE);
+        final List<Integer> consumed = new ArrayList<>();
+        consumed.add(cursor.next());
+        consumed.addAll(cursor.asListRemaining(BATCH_SIZE));
+        assertThat(consumed, is(expected()));
+    }
+
+    @Test
+    public void batches() {
+        final IntegerCursor cursor = new IntegerCursor(BATCHES, BATCH_SIZE);
+        final List<Integer> consumed = new ArrayList<>();
+        consumed.add(cursor.next());
+        final Iterator<List<Integer>> batches = cursor.batches();
+        final List<Integer> first = batches.next();
+        assertThat(first.size(), is(BATCH_SIZE - 1));
+        consumed.addAll(first);
+        int count = 1;
+        while (batches.hasNext()) {
+            final List<Integer> batch = batches.next();
+            assertThat(batch.size(), is(BATCH_SIZE));
+            consumed.addAll(batch);
+            count++;
+        }
+        assertThat(count, is(BATCHES));
+        assertThat(consumed, is(expected()));
+    }
+
+    @Test
+    public void rawBatches() {
+        final IntegerCursor cursor = new IntegerCursor(BATCHES, BATCH_SIZE);
+        final List<Integer> consumed = new ArrayList<>();
+        consumed.add(cursor.next());
+        for (final Iterator<VPackSlice> batches = cursor.rawBatches(); batches.hasNext(); ) {
+            final VPackSlice batch = batches.next();
+            assertThat(batch.isArray(), is(true));
+            for (final Iterator<VPackSlice> elements = batch.arrayIterator(); elements.hasNext(); ) {
+                consumed.add(elements.next().getAsInt());
+            }
+        }
+        assertThat(consumed, is(expected()));
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.model.AqlQueryOptions;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.ValueType;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class BatchSizeTunerTest {
+
+    private static final String QUERY = "FOR d IN c RETURN d";
+
+    private static CursorEntity batch(final int documents, final int documentBytes) {
+        final StringBuilder value = new StringBuilder();
+        // a string of up to 126 bytes has a one byte head
+        for (int i = 1; i < documentBytes; i++) {
+            value.append('x');
+        }
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.ARRAY, true);
+        for (int i = 0; i < documents; i++) {
+            builder.add(value.toString());
+        }
+        builder.close();
+        return new CursorEntity("cursor", null, null, null, true, builder.slice());
+    }
+
+    private static ArangoCursorExecute execute(final CursorEntity next, final long latencyMillis) {
+        return new ArangoCursorExecute() {
+            @Override
+            public CursorEntity next(final String id, final Map<String, String> meta) {
+                try {
+                    Thread.sleep(latencyMillis);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return next;
+            }
+
+            @Override
+            public void close(final String id, final Map<String, String> meta) {
+            }
+        };
+    }
+
+    @Test
+    public void unknownQuery() {
+        assertThat(new BatchSizeTuner(10).batchSize("db", QUERY), is(nullValue()));
+    }
+
+    @Test
+    public void notAdaptive() {
+        final BatchSizeTuner tuner = new BatchSizeTuner(10);
+        final ArangoCursorExecute execute = execute(batch(10, 100), 0);
+        assertThat(tuner.wrap(execute, "db", QUERY, batch(10, 100), new AqlQueryOptions()), is(sameInstance(execute)));
+        assertThat(tuner.wrap(execute, "db", QUERY, batch(10, 100), null), is(sameInstance(execute)));
+        assertThat(tuner.batchSize("db", QUERY), is(nullValue()));
+    }
+
+    @Test
+    public void targetBytes() {
+        final BatchSizeTuner tuner = new BatchSizeTuner(10);
+        tuner.wrap(execute(batch(10, 100), 0), "db", QUERY, batch(100, 100), new AqlQueryOptions().adaptiveBatchSize(true));
+        // the compact array adds a few bytes of header to the batch
+        final int batchSize = tuner.batchSize("db", QUERY);
+        assertThat(batchSize > BatchSizeTuner.TARGET_BYTES / 101 && batchSize <= BatchSizeTuner.TARGET_BYTES / 100,
+                is(true));
+        assertThat(tuner.batchSize("other", QUERY), is(nullValue()));
+    }
+
+    @Test
+    public void slowRoundTrip() {
+        final BatchSizeTuner tuner = new BatchSizeTuner(10);
+        final ArangoCursorExecute execute = tuner.wrap(execute(batch(100, 100), 100), "db", QUERY,
+                batch(100, 100), new AqlQueryOptions().adaptiveBatchSize(true));
+        final int fast = tuner.batchSize("db", QUERY);
+        execute.next("cursor", null);
+        final int slow = tuner.batchSize("db", QUERY);
+        assertThat(slow >= fast * BatchSizeTuner.MAX_LATENCY_FACTOR
+                && slow < (fast + 1) * BatchSizeTuner.MAX_LATENCY_FACTOR, is(true));
+    }
+
+    @Test
+    public void maxBatchSize() {
+        final BatchSizeTuner tuner = new BatchSizeTuner(10);
+        tuner.wrap(execute(batch(10, 1), 0), "db", QUERY, batch(1000, 1), new AqlQueryOptions().adaptiveBatchSize(true));
+        assertThat(tuner.batchSize("db", QUERY), is(BatchSizeTuner.MAX_BATCH_SIZE));
+    }
+
+}
@@ -0,0 +1,130 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.ColumnBatch;
+import com.arangodb.entity.ColumnBatch.Column;
+import com.arangodb.entity.ColumnBatch.ColumnType;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class ColumnBatchDecoderTest {
+
+    private static VPackSlice rows(final boolean compact) {
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.ARRAY);
+        for (int i = 0; i < 4; i++) {
+            builder.add(ValueType.OBJECT, compact);
+            builder.add("id", i);
+            builder.add("name", "name" + i);
+            if (i == 2) {
+                builder.add("amount", 2.5);
+            } else {
+                builder.add("amount", (long) i);
+            }
+            if (i % 2 == 0) {
+                builder.add("flag", i == 0);
+            }
+            builder.add("comment", ValueType.NULL);
+            builder.close();
+        }
+        return builder.close().slice();
+    }
+
+    @Test
+    public void decode() {
+        final ColumnBatch batch = ColumnBatchDecoder.decode(rows(false), 0);
+        assertThat(batch.size(), is(4));
+        assertThat(batch.getColumns().keySet(), contains("amount", "comment", "flag", "id", "name"));
+
+        final Column id = batch.getColumn("id");
+        assertThat(id.getType(), is(ColumnType.LONG));
+        assertThat(Arrays.equals(id.getLongs(), new long[]{0, 1, 2, 3}), is(true));
+        assertThat(id.getDoubles(), is(nullValue()));
+        assertThat(id.getNulls().isEmpty(), is(true));
+
+        final Column amount = batch.getColumn("amount");
+        assertThat(amount.getType(), is(ColumnType.DOUBLE));
+        assertThat(Arrays.equals(amount.getDoubles(), new double[]{0, 1, 2.5, 3}), is(true));
+
+        assertThat(batch.getColumn("name").getStrings(), is(new String[]{"name0", "name1", "name2", "name3"}));
+
+        final Column flag = batch.getColumn("flag");
+        assertThat(flag.getType(), is(ColumnType.BOOLEAN));
+        assertThat(flag.getBooleans().get(0), is(true));
+        assertThat(flag.getBooleans().get(2), is(false));
+        assertThat(flag.isNull(1), is(true));
+        assertThat(flag.isNull(2), is(false));
+
+        final Column comment = batch.getColumn("comment");
+        assertThat(comment.getType(), is(ColumnType.NULL));
+        assertThat(comment.getNulls().cardinality(), is(4));
+    }
+
+    @Test
+    public void decodeCompactFrom() {
+        final ColumnBatch batch = ColumnBatchDecoder.decode(rows(true), 2);
+        assertThat(batch.size(), is(2));
+        assertThat(Arrays.equals(batch.getColumn("id").getLongs(), new long[]{2, 3}), is(true));
+        assertThat(batch.getColumn("name").getStrings(), is(new String[]{"name2", "name3"}));
+    }
+
+    @Test
+    public void shareAttributeNames() {
+        final ColumnBatch compact = ColumnBatchDecoder.decode(rows(true), 0);
+        final ColumnBatch indexed = ColumnBatchDecoder.decode(rows(false), 0);
+        assertThat(name(compact, "name"), is(sameInstance(name(indexed, "name"))));
+        assertThat(name(compact, "amount"), is(sameInstance(name(indexed, "amount"))));
+    }
+
+    private static String name(final ColumnBatch batch, final String attribute) {
+        for (final String name : batch.getColumns().keySet()) {
+            if (name.equals(attribute)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void mixedTypes() {
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.ARRAY);
+        builder.add(ValueType.OBJECT).add("a", 1).close();
+        builder.add(ValueType.OBJECT).add("a", "1").close();
+        ColumnBatchDecoder.decode(builder.close().slice(), 0);
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void noObject() {
+        ColumnBatchDecoder.decode(new VPackBuilder().add(ValueType.ARRAY).add(1).close().slice(), 0);
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.internal.InternalArangoDatabase;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+
+import java.util.Map;
+
+/**
+ * Cursor over the consecutive integers {@code first} to {@code first + batches * batchSize - 1}, which serves its
+ * batches from memory and decodes them without a serializer.
+ */
+final class IntegerCursor extends ArangoCursorImpl<Integer> {
+
+    IntegerCursor(final int batches, final int batchSize) {
+        this("cursor", 0, batches, batchSize, () -> {
+        });
+    }
+
+    /**
+     * @param id        the cursor id
+     * @param first     the first value
+     * @param batches   the number of batches
+     * @param batchSize the number of values per batch
+     * @param onClose   called when the cursor is closed on the "server"
+     */
+    IntegerCursor(final String id, final int first, final int batches, final int batchSize, final Runnable onClose) {
+        super(null, new ArangoCursorExecute() {
+            private int next = 1;
+
+            @Override
+            public CursorEntity next(final String cursorId, final Map<String, String> meta) {
+                return batch(id, first, next++, batches, batchSize);
+            }
+
+            @Override
+            public void close(final String cursorId, final Map<String, String> meta) {
+                onClose.run();
+            }
+        }, Integer.class, batch(id, first, 0, batches, batchSize));
+    }
+
+    static CursorEntity batch(final String id, final int first, final int number, final int batches,
+                              final int batchSize) {
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.ARRAY);
+        for (int i = 0; i < batchSize; i++) {
+            builder.add(first + number * batchSize + i);
+        }
+        builder.close();
+        return new CursorEntity(id, null, null, null, number < batches - 1, builder.slice());
+    }
+
+    @Override
+    protected ArangoCursorIterator<Integer> createIterator(final ArangoCursor<Integer> cursor,
+                                                           final InternalArangoDatabase<?, ?> db,
+                                                           final ArangoCursorExecute execute,
+                                                           final CursorEntity result) {
+        return new ArangoCursorIterator<Integer>(cursor, execute, db, result) {
+            @SuppressWarnings("unchecked")
+            @Override
+            protected <R> R deserialize(final VPackSlice result, final Class<R> type) {
+                return (R) Integer.valueOf(result.getAsInt());
+            }
+        };
+    }
+
+}
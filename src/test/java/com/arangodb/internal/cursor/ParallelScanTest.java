@@ -0,0 +1,103 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoCursor;
+import com.arangodb.ArangoDBException;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ParallelScanTest {
+
+    private static final int SHARDS = 5;
+    private static final int BATCHES = 10;
+    private static final int BATCH_SIZE = 10;
+
+    private static List<Supplier<ArangoCursor<Integer>>> cursors(final AtomicInteger closed) {
+        final List<Supplier<ArangoCursor<Integer>>> cursors = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            final int shard = i;
+            // like over VST, a cursor can only be closed on a thread which is not interrupted
+            cursors.add(() -> new IntegerCursor("cursor" + shard, shard * BATCHES * BATCH_SIZE, BATCHES, BATCH_SIZE,
+                    () -> {
+                        if (!Thread.currentThread().isInterrupted()) {
+                            closed.incrementAndGet();
+                        }
+                    }));
+        }
+        return cursors;
+    }
+
+    @Test
+    public void scan() {
+        for (final int parallelism : new int[]{1, 2, SHARDS, 2 * SHARDS}) {
+            final List<Integer> results = ParallelScan.stream(cursors(new AtomicInteger()), parallelism)
+                    .sorted().collect(Collectors.toList());
+            assertThat(results, is(IntStream.range(0, SHARDS * BATCHES * BATCH_SIZE).boxed()
+                    .collect(Collectors.toList())));
+        }
+    }
+
+    @Test
+    public void closeEarly() throws InterruptedException {
+        final AtomicInteger closed = new AtomicInteger();
+        try (final Stream<Integer> stream = ParallelScan.stream(cursors(closed), 2)) {
+            assertThat(stream.limit(5).count(), is(5L));
+        }
+        // the workers are interrupted while their first cursor has more batches and close it
+        for (int i = 0; i < 100 && closed.get() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(closed.get(), is(2));
+    }
+
+    @Test
+    public void abandoned() throws InterruptedException {
+        final AtomicInteger closed = new AtomicInteger();
+        assertThat(ParallelScan.stream(cursors(closed), 2).findFirst().isPresent(), is(true));
+        // the stream is neither closed nor exhausted, the blocked workers give up once it is collected
+        for (int i = 0; i < 100 && closed.get() < 2; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        assertThat(closed.get(), is(2));
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void failure() {
+        final List<Supplier<ArangoCursor<Integer>>> cursors = cursors(new AtomicInteger());
+        cursors.add(() -> {
+            throw new ArangoDBException("shard not available");
+        });
+        ParallelScan.stream(cursors, 2).count();
+    }
+
+}
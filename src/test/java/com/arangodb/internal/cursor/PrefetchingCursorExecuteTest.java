@@ -0,0 +1,163 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.internal.ArangoCursorExecute;
+import com.arangodb.model.AqlQueryOptions;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class PrefetchingCursorExecuteTest {
+
+    private static CursorEntity batch(final int number, final boolean hasMore) {
+        final CursorEntity entity = new CursorEntity("cursor", number, null, null, hasMore, null);
+        entity.setMeta(Collections.singletonMap("batch", String.valueOf(number)));
+        return entity;
+    }
+
+    private static final class Server implements ArangoCursorExecute {
+        private final int batches;
+        private final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        private final long latency;
+        private int next = 1;
+
+        private Server(final int batches) {
+            this(batches, 0);
+        }
+
+        private Server(final int batches, final long latency) {
+            this.batches = batches;
+            this.latency = latency;
+        }
+
+        @Override
+        public synchronized CursorEntity next(final String id, final Map<String, String> meta) {
+            if (latency > 0) {
+                try {
+                    Thread.sleep(latency);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            requests.add("next " + meta.get("batch"));
+            final CursorEntity batch = batch(next, next < batches - 1);
+            next++;
+            return batch;
+        }
+
+        @Override
+        public void close(final String id, final Map<String, String> meta) {
+            requests.add("close " + meta.get("batch"));
+        }
+    }
+
+    @Test
+    public void disabledByDefault() {
+        final Server server = new Server(3);
+        assertThat(PrefetchingCursorExecute.wrap(server, batch(0, true), new AqlQueryOptions()),
+                is(sameInstance((ArangoCursorExecute) server)));
+        assertThat(PrefetchingCursorExecute.wrap(server, batch(0, false), new AqlQueryOptions().prefetch(2)),
+                is(sameInstance((ArangoCursorExecute) server)));
+        assertThat(PrefetchingCursorExecute.wrap(server, batch(0, true),
+                new AqlQueryOptions().prefetch(2).streamTransactionId("tx")),
+                is(sameInstance((ArangoCursorExecute) server)));
+    }
+
+    @Test
+    public void fetchBatchesInOrder() {
+        final Server server = new Server(4);
+        final ArangoCursorExecute execute = PrefetchingCursorExecute.wrap(server, batch(0, true),
+                new AqlQueryOptions().prefetch(2));
+        assertThat(execute, is(not(sameInstance((ArangoCursorExecute) server))));
+        assertThat(execute, is(instanceOf(PrefetchingCursorExecute.class)));
+        CursorEntity batch = batch(0, true);
+        final List<Integer> numbers = new ArrayList<>();
+        while (batch.getHasMore()) {
+            batch = execute.next("cursor", null);
+            numbers.add(batch.getCount());
+        }
+        assertThat(numbers, contains(1, 2, 3));
+        assertThat(server.requests, contains("next 0", "next 1", "next 2"));
+    }
+
+    @Test
+    public void closeWithLatestMeta() {
+        final Server server = new Server(10);
+        final ArangoCursorExecute execute = PrefetchingCursorExecute.wrap(server, batch(0, true),
+                new AqlQueryOptions().prefetch(2));
+        assertThat(execute.next("cursor", null).getCount(), is(1));
+        execute.close("cursor", null);
+        assertThat(server.requests.get(server.requests.size() - 1), is("close " + (server.requests.size() - 1)));
+    }
+
+    @Test
+    public void closeSkipsQueuedPrefetches() {
+        final Server server = new Server(100, 20);
+        final ArangoCursorExecute execute = PrefetchingCursorExecute.wrap(server, batch(0, true),
+                new AqlQueryOptions().prefetch(10));
+        assertThat(execute.next("cursor", null).getCount(), is(1));
+        execute.close("cursor", null);
+        // at most the request in flight while closing completes
+        final int fetched = server.requests.size() - 1;
+        assertThat(fetched <= 3, is(true));
+        assertThat(server.requests.get(fetched), is("close " + fetched));
+    }
+
+    @Test
+    public void noCloseOfExhaustedCursor() {
+        final Server server = new Server(2);
+        final ArangoCursorExecute execute = PrefetchingCursorExecute.wrap(server, batch(0, true),
+                new AqlQueryOptions().prefetch(3));
+        assertThat(execute.next("cursor", null).getHasMore(), is(false));
+        execute.close("cursor", null);
+        assertThat(server.requests, contains("next 0"));
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void propagateFailure() {
+        final ArangoCursorExecute failing = new ArangoCursorExecute() {
+            @Override
+            public CursorEntity next(final String id, final Map<String, String> meta) {
+                throw new ArangoDBException("cursor not found", 404);
+            }
+
+            @Override
+            public void close(final String id, final Map<String, String> meta) {
+            }
+        };
+        PrefetchingCursorExecute.wrap(failing, batch(0, true), new AqlQueryOptions().prefetch(1))
+                .next("cursor", null);
+    }
+
+}
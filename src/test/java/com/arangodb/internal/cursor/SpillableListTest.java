@@ -0,0 +1,107 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.cursor;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class SpillableListTest {
+
+    private static final int BATCHES = 10;
+    private static final int BATCH_SIZE = 50;
+
+    private static List<VPackSlice> batches() {
+        final List<VPackSlice> batches = new ArrayList<>();
+        for (int b = 0; b < BATCHES; b++) {
+            final VPackBuilder builder = new VPackBuilder().add(ValueType.ARRAY);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                // values of different length, so the elements have different sizes
+                builder.add(value(b * BATCH_SIZE + i));
+            }
+            batches.add(builder.close().slice());
+        }
+        return batches;
+    }
+
+    private static String value(final int i) {
+        final StringBuilder value = new StringBuilder().append(i);
+        for (int j = 0; j < i % 7; j++) {
+            value.append('-');
+        }
+        return value.toString();
+    }
+
+    private static List<String> build(final long heapBudget, final long chunkSize) {
+        try (final SpillableList.Builder<String> builder =
+                     new SpillableList.Builder<>(heapBudget, chunkSize, VPackSlice::getAsString)) {
+            for (final VPackSlice batch : batches()) {
+                builder.add(batch);
+            }
+            return builder.build();
+        }
+    }
+
+    private static void assertValues(final List<String> list) {
+        assertThat(list.size(), is(BATCHES * BATCH_SIZE));
+        for (int i = 0; i < list.size(); i++) {
+            assertThat(list.get(i), is(value(i)));
+        }
+        // random access in reverse order
+        for (int i = list.size() - 1; i >= 0; i--) {
+            assertThat(list.get(i), is(value(i)));
+        }
+    }
+
+    @Test
+    public void heapOnly() {
+        assertValues(build(Long.MAX_VALUE, 1L << 30));
+    }
+
+    @Test
+    public void spilled() {
+        assertValues(build(0, 1L << 30));
+    }
+
+    @Test
+    public void partiallySpilledInChunks() {
+        final long batchBytes = batches().get(0).getByteSize();
+        assertValues(build(3 * batchBytes, 100));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBounds() {
+        build(0, 1L << 30).get(BATCHES * BATCH_SIZE);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void unmodifiable() {
+        build(0, 1L << 30).add("x");
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.http;
+
+import com.arangodb.Protocol;
+import com.arangodb.internal.net.HostDescription;
+import com.arangodb.internal.util.IOUtils;
+import com.arangodb.util.RawJson;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocystream.Request;
+import com.arangodb.velocystream.RequestType;
+import com.arangodb.velocystream.Response;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class HttpConnectionTest {
+
+    private static final int THRESHOLD = 64;
+
+    private HttpServer server;
+    private volatile String requestEncoding;
+    private volatile String acceptEncoding;
+    private volatile byte[] requestBody;
+    private volatile boolean gzipResponse;
+
+    @Before
+    public void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requestEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+            acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            requestBody = IOUtils.toByteArray(exchange.getRequestBody());
+            byte[] response = "{\"result\":\"ok\"}".getBytes(StandardCharsets.UTF_8);
+            if (gzipResponse) {
+                response = gzip(response);
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, response.length);
+            try (final OutputStream out = exchange.getResponseBody()) {
+                out.write(response);
+            }
+        });
+        server.start();
+    }
+
+    @After
+    public void teardown() {
+        server.stop(0);
+    }
+
+    private HttpConnection connection(final Boolean acceptCompression) {
+        return new HttpConnection.Builder()
+                .host(new HostDescription("localhost", server.getAddress().getPort()))
+                .contentType(Protocol.HTTP_JSON)
+                .acceptCompression(acceptCompression)
+                .compressionThreshold(THRESHOLD)
+                .build();
+    }
+
+    private static Request request(final String value) {
+        return new Request("_system", RequestType.POST, "/_api/test")
+                .setBody(new VPackBuilder().add(ValueType.OBJECT).add("value", value).close().slice());
+    }
+
+    private static String repeat(final int length) {
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            value.append('a');
+        }
+        return value.toString();
+    }
+
+    private static byte[] gzip(final byte[] content) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (final GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(content);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] gunzip(final byte[] content) throws IOException {
+        try (final GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            return IOUtils.toByteArray(in);
+        }
+    }
+
+    @Test
+    public void bodyBelowThresholdIsNotCompressed() throws IOException {
+        final HttpConnection connection = connection(null);
+        try {
+            connection.execute(request("a"));
+        } finally {
+            connection.close();
+        }
+        assertThat(requestEncoding, is(nullValue()));
+        assertThat(new String(requestBody, StandardCharsets.UTF_8), is("{\"value\":\"a\"}"));
+    }
+
+    @Test
+    public void bodyAboveThresholdIsCompressed() throws IOException {
+        final String value = repeat(THRESHOLD * 4);
+        final HttpConnection connection = connection(null);
+        try {
+            connection.execute(request(value));
+        } finally {
+            connection.close();
+        }
+        assertThat(requestEncoding, is("gzip"));
+        assertThat(requestBody.length < THRESHOLD, is(true));
+        assertThat(new String(gunzip(requestBody), StandardCharsets.UTF_8), is("{\"value\":\"" + value + "\"}"));
+    }
+
+    @Test
+    public void rawJsonBodyIsSentAsIs() throws IOException {
+        final String json = "{ \"value\" : [1, 2.50] }";
+        final HttpConnection connection = connection(null);
+        try {
+            connection.execute(new Request("_system", RequestType.POST, "/_api/test").setJsonBody(RawJson.of(json)));
+        } finally {
+            connection.close();
+        }
+        assertThat(new String(requestBody, StandardCharsets.UTF_8), is(json));
+    }
+
+    @Test
+    public void gzipResponseIsDecompressed() throws IOException {
+        gzipResponse = true;
+        final HttpConnection connection = connection(null);
+        final Response response;
+        try {
+            response = connection.execute(new Request("_system", RequestType.GET, "/_api/test"));
+        } finally {
+            connection.close();
+        }
+        assertThat(acceptEncoding.contains("gzip"), is(true));
+        final VPackSlice body = response.getBody();
+        assertThat(body.get("result").getAsString(), is("ok"));
+    }
+
+    @Test
+    public void compressionNotAccepted() throws IOException {
+        final HttpConnection connection = connection(false);
+        try {
+            connection.execute(new Request("_system", RequestType.GET, "/_api/test"));
+        } finally {
+            connection.close();
+        }
+        assertThat(acceptEncoding, is(nullValue()));
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.net;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.ValueType;
+import com.arangodb.velocystream.Response;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class JwtAuthenticationTest {
+
+    private static String jwt(final String payload) {
+        final Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString("{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+
+    private static JwtAuthentication.TokenRequester requester(final AtomicInteger counter, final String jwt) {
+        return request -> {
+            counter.incrementAndGet();
+            final Response response = new Response();
+            response.setResponseCode(200);
+            response.setBody(new VPackBuilder().add(ValueType.OBJECT).add("jwt", jwt).close().slice());
+            return response;
+        };
+    }
+
+    @Test
+    public void expiresAt() {
+        assertThat(JwtAuthentication.expiresAt(jwt("{\"exp\":1600000000,\"iss\":\"arangodb\"}")),
+                is(1600000000000L));
+    }
+
+    @Test
+    public void expiresAtWithFractionalExpiration() {
+        assertThat(JwtAuthentication.expiresAt(jwt("{\"exp\":1600000000.5,\"iss\":\"arangodb\"}")),
+                is(1600000000500L));
+        assertThat(JwtAuthentication.expiresAt(jwt("{\"exp\":1.6e9}")), is(1600000000000L));
+    }
+
+    @Test
+    public void expiresAtWithoutExpiration() {
+        assertThat(JwtAuthentication.expiresAt(jwt("{\"iss\":\"arangodb\"}")), is(Long.MAX_VALUE));
+        assertThat(JwtAuthentication.expiresAt("invalid"), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void tokenIsCached() {
+        final String jwt = jwt("{\"exp\":" + (System.currentTimeMillis() / 1000 + 3600) + "}");
+        final AtomicInteger counter = new AtomicInteger();
+        final JwtAuthentication authentication = new JwtAuthentication("root", "", 60000L);
+        assertThat(authentication.getAuthorization(requester(counter, jwt)), is("bearer " + jwt));
+        assertThat(authentication.getToken(requester(counter, jwt)), is(jwt));
+        assertThat(counter.get(), is(1));
+    }
+
+    @Test
+    public void invalidTokenIsRequestedAgain() {
+        final String jwt = jwt("{\"exp\":" + (System.currentTimeMillis() / 1000 + 3600) + "}");
+        final AtomicInteger counter = new AtomicInteger();
+        final JwtAuthentication authentication = new JwtAuthentication("root", "", 60000L);
+        authentication.invalidate(authentication.getAuthorization(requester(counter, jwt)));
+        authentication.getAuthorization(requester(counter, jwt));
+        assertThat(counter.get(), is(2));
+    }
+
+    @Test
+    public void expiredTokenIsRequestedAgain() {
+        final String jwt = jwt("{\"exp\":" + (System.currentTimeMillis() / 1000 - 1) + "}");
+        final AtomicInteger counter = new AtomicInteger();
+        final JwtAuthentication authentication = new JwtAuthentication("root", "", 60000L);
+        authentication.getToken(requester(counter, jwt));
+        authentication.getToken(requester(counter, jwt));
+        assertThat(counter.get(), is(2));
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class IOUtilsTest {
+
+    private static final byte[] CONTENT = "0123456789".getBytes();
+
+    @Test
+    public void toByteArrayWithContentLength() throws IOException {
+        final byte[] content = IOUtils.toByteArray(new ByteArrayInputStream(CONTENT), CONTENT.length);
+        assertThat(content, is(CONTENT));
+    }
+
+    @Test
+    public void toByteArrayWithUnknownContentLength() throws IOException {
+        final byte[] content = IOUtils.toByteArray(new ByteArrayInputStream(CONTENT), -1);
+        assertThat(content, is(CONTENT));
+    }
+
+    @Test(expected = EOFException.class)
+    public void toByteArrayWithTruncatedContent() throws IOException {
+        IOUtils.toByteArray(new ByteArrayInputStream(CONTENT), CONTENT.length + 1);
+    }
+
+    @Test(expected = IOException.class)
+    public void toByteArrayWithExceedingContent() throws IOException {
+        IOUtils.toByteArray(new ByteArrayInputStream(CONTENT), CONTENT.length - 1);
+    }
+
+}
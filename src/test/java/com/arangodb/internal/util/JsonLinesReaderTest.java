@@ -0,0 +1,88 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import com.arangodb.velocypack.VPackSlice;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class JsonLinesReaderTest {
+
+    private static InputStream lines(final String lines) {
+        return new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void singleBatch() {
+        final JsonLinesReader reader = new JsonLinesReader(lines("{\"a\":1}\n\n{\"a\":2}\n{\"a\":null}"), 1024);
+        final VPackSlice batch = reader.next();
+        assertThat(batch.isArray(), is(true));
+        assertThat(batch.getLength(), is(3));
+        assertThat(batch.get(1).get("a").getAsInt(), is(2));
+        assertThat(batch.get(2).get("a").isNull(), is(true));
+        assertThat(reader.next(), is(nullValue()));
+    }
+
+    @Test
+    public void splitAtLineBreaks() {
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            input.append("{\"value\":\"").append(i).append("\"}\n");
+        }
+        final JsonLinesReader reader = new JsonLinesReader(lines(input.toString()), 50);
+        int count = 0;
+        int batches = 0;
+        for (VPackSlice batch = reader.next(); batch != null; batch = reader.next()) {
+            for (int i = 0; i < batch.getLength(); i++) {
+                assertThat(batch.get(i).get("value").getAsString(), is(String.valueOf(count++)));
+            }
+            batches++;
+        }
+        assertThat(count, is(100));
+        assertThat(batches > 1, is(true));
+    }
+
+    @Test
+    public void lineLongerThanBuffer() {
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 200000; i++) {
+            value.append('x');
+        }
+        final JsonLinesReader reader = new JsonLinesReader(
+                lines("{\"a\":\"" + value + "\"}\n{\"a\":\"b\"}\n"), 1);
+        assertThat(reader.next().get(0).get("a").getAsString().length(), is(value.length()));
+        assertThat(reader.next().get(0).get("a").getAsString(), is("b"));
+        assertThat(reader.next(), is(nullValue()));
+    }
+
+    @Test
+    public void empty() {
+        assertThat(new JsonLinesReader(lines("\n\n"), 10).next(), is(nullValue()));
+    }
+
+}
@@ -0,0 +1,109 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.util;
+
+import com.arangodb.ArangoDB;
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.internal.util.ArangoSerializationFactory.Serializer;
+import com.arangodb.util.ArangoSerialization;
+import com.arangodb.util.RawJson;
+import com.arangodb.util.RawVPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class RawPassthroughSerializationTest {
+
+    private static ArangoSerialization util;
+
+    @BeforeClass
+    public static void setup() {
+        util = new ArangoDB.Builder().build().util(Serializer.CUSTOM);
+    }
+
+    @Test
+    public void serializeRawJson() {
+        final VPackSlice vpack = util.serialize(RawJson.of("{\"a\":\"x\",\"b\":null}"));
+        assertThat(vpack.get("a").getAsString(), is("x"));
+        assertThat(vpack.get("b").isNull(), is(true));
+    }
+
+    @Test
+    public void serializeRawVPack() {
+        final VPackSlice slice = new VPackBuilder().add(ValueType.OBJECT).add("a", "x").close().slice();
+        assertThat(util.serialize(RawVPack.of(slice)), is(sameInstance(slice)));
+    }
+
+    @Test
+    public void serializeRawIterable() {
+        final BaseDocument doc = new BaseDocument("k");
+        final VPackSlice vpack = util.serialize(Arrays.asList(RawJson.of("{\"a\":1}"), doc));
+        assertThat(vpack.isArray(), is(true));
+        assertThat(vpack.get(0).get("a").getAsInt(), is(1));
+        assertThat(vpack.get(1).get("_key").getAsString(), is("k"));
+    }
+
+    @Test
+    public void serializeMixedIterable() {
+        final BaseDocument doc = new BaseDocument("k");
+        final VPackSlice vpack = util.serialize(Arrays.asList(RawJson.of("{\"a\":1}"), doc));
+        assertThat(vpack.get(0).get("a").getAsInt(), is(1));
+        assertThat(vpack.get(1).get("_key").getAsString(), is("k"));
+    }
+
+    @Test
+    public void json() {
+        final RawJson json = RawJson.of("{\"a\": 1}");
+        assertThat(RawPassthroughSerialization.json(json), is(sameInstance(json)));
+        assertThat(RawPassthroughSerialization.json(Arrays.asList(json, RawJson.of("[2]"))).toString(),
+                is("[{\"a\": 1},[2]]"));
+        assertThat(RawPassthroughSerialization.json(Arrays.asList(json, new BaseDocument())), is(nullValue()));
+        assertThat(RawPassthroughSerialization.json(Collections.emptyList()), is(nullValue()));
+        assertThat(RawPassthroughSerialization.json(new BaseDocument()), is(nullValue()));
+    }
+
+    @Test
+    public void deserializeRawJson() {
+        final VPackSlice slice = new VPackBuilder().add(ValueType.OBJECT).add("a", "x").add("b", ValueType.NULL)
+                .close().slice();
+        final RawJson json = util.deserialize(slice, RawJson.class);
+        assertThat(json.toString(), is("{\"a\":\"x\",\"b\":null}"));
+    }
+
+    @Test
+    public void deserializeRawVPack() {
+        final VPackSlice slice = new VPackBuilder().add(ValueType.ARRAY).add("x").close().slice();
+        final RawVPack vpack = util.deserialize(slice.get(0), RawVPack.class);
+        assertThat(vpack.getBytes().length, is(slice.get(0).getByteSize()));
+        assertThat(vpack.getSlice().getAsString(), is("x"));
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.entity.CursorEntity;
+import com.arangodb.entity.DocumentCreateEntity;
+import com.arangodb.entity.DocumentUpdateEntity;
+import com.arangodb.entity.ErrorEntity;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocystream.Response;
+import org.junit.Test;
+
+import java.util.Date;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class VPackDeserializersTest {
+
+    private static final VPackParser PARSER = new VPackParser.Builder().build();
+    private static final VPack VPACK = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+
+    @Test
+    public void response() {
+        final VPackSlice head = PARSER.fromJson("[1,2,201,{\"Content-Type\":\"application/json\",\"X-Arango-Queue-Time-Seconds\":\"0.1\"}]");
+        final Response response = VPackDeserializers.RESPONSE.deserialize(null, head, null);
+        assertThat(response.getVersion(), is(1));
+        assertThat(response.getType(), is(2));
+        assertThat(response.getResponseCode(), is(201));
+        assertThat(response.getMeta().get("Content-Type"), is("application/json"));
+        assertThat(response.getMeta().get("X-Arango-Queue-Time-Seconds"), is("0.1"));
+    }
+
+    @Test
+    public void errorEntity() {
+        final ErrorEntity entity = VPACK.deserialize(PARSER.fromJson(
+                "{\"error\":true,\"errorMessage\":\"document not found\",\"code\":404,\"errorNum\":1202}"),
+                ErrorEntity.class);
+        assertThat(entity.getErrorMessage(), is("document not found"));
+        assertThat(entity.getException(), is(nullValue()));
+        assertThat(entity.getCode(), is(404));
+        assertThat(entity.getErrorNum(), is(1202));
+    }
+
+    @Test
+    public void documentCreateEntity() {
+        final DocumentCreateEntity<?> entity = VPACK.deserialize(PARSER.fromJson(
+                "{\"_id\":\"c/1\",\"_key\":\"1\",\"_rev\":\"r\",\"new\":{\"a\":1}}"), DocumentCreateEntity.class);
+        assertThat(entity.getId(), is("c/1"));
+        assertThat(entity.getKey(), is("1"));
+        assertThat(entity.getRev(), is("r"));
+        assertThat(entity.getNew(), is(nullValue()));
+    }
+
+    @Test
+    public void documentUpdateEntity() {
+        final DocumentUpdateEntity<?> entity = VPACK.deserialize(PARSER.fromJson(
+                "{\"_id\":\"c/1\",\"_key\":\"1\",\"_rev\":\"r2\",\"_oldRev\":\"r1\"}"), DocumentUpdateEntity.class);
+        assertThat(entity.getKey(), is("1"));
+        assertThat(entity.getRev(), is("r2"));
+        assertThat(entity.getOldRev(), is("r1"));
+    }
+
+    @Test
+    public void cursorEntity() {
+        final CursorEntity entity = VPACK.deserialize(PARSER.fromJson(
+                "{\"id\":\"42\",\"count\":3,\"hasMore\":true,\"cached\":false,\"result\":[1,2,3],"
+                        + "\"extra\":{\"stats\":{\"scannedFull\":3},\"warnings\":[]}}"), CursorEntity.class);
+        assertThat(entity.getId(), is("42"));
+        assertThat(entity.getCount(), is(3));
+        assertThat(entity.getHasMore(), is(true));
+        assertThat(entity.getCached(), is(false));
+        assertThat(entity.getResult().size(), is(3));
+        assertThat(entity.getExtra().getStats().getScannedFull(), is(3L));
+        assertThat(entity.getExtra().getWarnings().isEmpty(), is(true));
+    }
+
+    @Test
+    public void dateString() {
+        final Date expected = new Date(1577934245678L);
+        assertThat(VPackDeserializers.DATE_STRING.deserialize(null,
+                PARSER.fromJson("\"2020-01-02T03:04:05.678+0000\""), null), is(expected));
+        assertThat(VPackDeserializers.DATE_STRING.deserialize(null,
+                PARSER.fromJson("\"2020-01-02T03:04:05.678Z\""), null), is(expected));
+        assertThat(VPackDeserializers.DATE_STRING.deserialize(null, PARSER.fromJson("\"yesterday\""), null),
+                is(nullValue()));
+    }
+
+}
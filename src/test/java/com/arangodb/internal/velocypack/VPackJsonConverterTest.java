@@ -0,0 +1,89 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class VPackJsonConverterTest {
+
+    private static final String JSON = "{\"_key\":\"k\\\"1\",\"text\":\"äöü \\n \\u20ac\",\"long\":"
+            + "\"" + new String(new char[300]).replace('\0', 'x') + "\",\"int\":-12,\"big\":18446744073709551615,"
+            + "\"double\":1.5,\"bool\":true,\"null\":null,\"array\":[1,null,{\"a\":[]}]}";
+
+    @Test
+    public void fromJson() {
+        final byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+        final VPackSlice slice = VPackJsonConverter.fromJson(json, 0, json.length, true);
+        assertThat(slice.get("_key").getAsString(), is("k\"1"));
+        assertThat(slice.get("text").getAsString(), is("äöü \n €"));
+        assertThat(slice.get("long").getAsString().length(), is(300));
+        assertThat(slice.get("int").getAsLong(), is(-12L));
+        assertThat(slice.get("big").getAsBigInteger(), is(new BigInteger("18446744073709551615")));
+        assertThat(slice.get("double").getAsDouble(), is(1.5));
+        assertThat(slice.get("bool").getAsBoolean(), is(true));
+        assertThat(slice.get("null").isNull(), is(true));
+        assertThat(slice.get("array").size(), is(3));
+        assertThat(slice.get("array").get(1).isNull(), is(true));
+        assertThat(slice.get("array").get(2).get("a").isArray(), is(true));
+    }
+
+    @Test
+    public void fromJsonWithoutNullValues() {
+        final byte[] json = JSON.getBytes(StandardCharsets.UTF_8);
+        final VPackSlice slice = VPackJsonConverter.fromJson(json, 0, json.length, false);
+        assertThat(slice.get("null").isNone(), is(true));
+        assertThat(slice.get("array").get(1).isNull(), is(true));
+    }
+
+    @Test
+    public void toJson() throws IOException {
+        final byte[] source = JSON.getBytes(StandardCharsets.UTF_8);
+        final VPackSlice slice = VPackJsonConverter.fromJson(source, 0, source.length, true);
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VPackJsonConverter.toJson(slice, out, true);
+        final byte[] json = out.toByteArray();
+        assertThat(VPackJsonConverter.fromJson(json, 0, json.length, true), is(slice));
+    }
+
+    @Test
+    public void toJsonWithoutNullValues() throws IOException {
+        final VPackBuilder builder = new VPackBuilder();
+        builder.add(ValueType.OBJECT);
+        builder.add("a", "b");
+        builder.add("c", ValueType.NULL);
+        builder.close();
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        VPackJsonConverter.toJson(builder.slice(), out, false);
+        assertThat(new String(out.toByteArray(), StandardCharsets.UTF_8), is("{\"a\":\"b\"}"));
+    }
+
+}
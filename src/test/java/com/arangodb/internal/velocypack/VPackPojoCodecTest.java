@@ -0,0 +1,153 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.ArangoDBException;
+import com.arangodb.entity.DocumentField;
+import com.arangodb.entity.DocumentField.Type;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.annotations.Expose;
+import com.arangodb.velocypack.annotations.SerializedName;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class VPackPojoCodecTest {
+
+    public enum Color {
+        RED, GREEN
+    }
+
+    public static class Base {
+        @DocumentField(Type.KEY)
+        private String key;
+        protected long count;
+    }
+
+    public static class Pojo extends Base {
+        private int number;
+        private boolean flag;
+        private double ratio;
+        private char letter;
+        private String text;
+        private Integer boxed;
+        private Color color;
+        private List<String> tags;
+        private Map<String, Integer> counts;
+        private Pojo child;
+        @SerializedName("renamed")
+        private String original;
+        @Expose(serialize = false)
+        private String readOnly;
+        @Expose(deserialize = false)
+        private String writeOnly;
+        private transient String ignored;
+    }
+
+    private static final VPackParser PARSER = new VPackParser.Builder().build();
+
+    private static VPack vpack(final boolean codec, final boolean serializeNullValues) {
+        final VPack.Builder builder = new VPack.Builder().registerModule(new VPackDriverModule());
+        if (codec) {
+            final VPackPojoCodec<Pojo> pojoCodec = VPackPojoCodec.create(Pojo.class);
+            builder.registerSerializer(Pojo.class, pojoCodec).registerDeserializer(Pojo.class, pojoCodec);
+        }
+        return builder.serializeNullValues(serializeNullValues).build();
+    }
+
+    private static Pojo pojo() {
+        final Pojo pojo = new Pojo();
+        pojo.number = 42;
+        pojo.flag = true;
+        pojo.ratio = 0.5;
+        pojo.letter = 'x';
+        pojo.text = "text";
+        pojo.boxed = 7;
+        pojo.color = Color.GREEN;
+        pojo.tags = Arrays.asList("a", "b");
+        pojo.counts = Collections.singletonMap("c", 3);
+        pojo.child = new Pojo();
+        pojo.child.number = 1;
+        pojo.original = "original";
+        pojo.readOnly = "readOnly";
+        pojo.writeOnly = "writeOnly";
+        pojo.ignored = "ignored";
+        ((Base) pojo).key = "key";
+        pojo.count = 5L;
+        return pojo;
+    }
+
+    @Test
+    public void serializeLikeReflectiveMapper() {
+        for (final boolean serializeNullValues : new boolean[]{false, true}) {
+            final VPackSlice expected = vpack(false, serializeNullValues).serialize(pojo());
+            final VPackSlice actual = vpack(true, serializeNullValues).serialize(pojo());
+            assertThat(PARSER.toJson(actual, true), is(PARSER.toJson(expected, true)));
+        }
+    }
+
+    @Test
+    public void deserialize() {
+        final VPackSlice slice = vpack(false, true).serialize(pojo());
+        final Pojo pojo = vpack(true, false).deserialize(slice, Pojo.class);
+        assertThat(pojo.number, is(42));
+        assertThat(pojo.flag, is(true));
+        assertThat(pojo.ratio, is(0.5));
+        assertThat(pojo.letter, is('x'));
+        assertThat(pojo.text, is("text"));
+        assertThat(pojo.boxed, is(7));
+        assertThat(pojo.color, is(Color.GREEN));
+        assertThat(pojo.tags, contains("a", "b"));
+        assertThat(pojo.counts.get("c"), is(3));
+        assertThat(pojo.child.number, is(1));
+        assertThat(pojo.child.text, is(nullValue()));
+        assertThat(pojo.original, is("original"));
+        assertThat(pojo.readOnly, is(nullValue()));
+        assertThat(pojo.writeOnly, is(nullValue()));
+        assertThat(pojo.ignored, is(nullValue()));
+        assertThat(((Base) pojo).key, is("key"));
+        assertThat(pojo.count, is(5L));
+    }
+
+    @Test
+    public void deserializeExposedOnlyForDeserialization() {
+        final VPackSlice slice = PARSER.fromJson("{\"readOnly\":\"value\",\"writeOnly\":\"value\"}");
+        final Pojo pojo = vpack(true, false).deserialize(slice, Pojo.class);
+        assertThat(pojo.readOnly, is("value"));
+        assertThat(pojo.writeOnly, is(nullValue()));
+    }
+
+    @Test(expected = ArangoDBException.class)
+    public void createWithoutDefaultConstructor() {
+        VPackPojoCodec.create(Integer.class);
+    }
+
+}
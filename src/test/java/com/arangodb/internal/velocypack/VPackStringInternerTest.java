@@ -0,0 +1,129 @@
+/*
+ * DISCLAIMER
+ *
+ * Copyright 2020 ArangoDB GmbH, Cologne, Germany
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Copyright holder is ArangoDB GmbH, Cologne, Germany
+ */
+
+package com.arangodb.internal.velocypack;
+
+import com.arangodb.entity.BaseDocument;
+import com.arangodb.velocypack.VPack;
+import com.arangodb.velocypack.VPackBuilder;
+import com.arangodb.velocypack.VPackParser;
+import com.arangodb.velocypack.VPackSlice;
+import com.arangodb.velocypack.ValueType;
+import org.junit.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class VPackStringInternerTest {
+
+    private static final VPackParser PARSER = new VPackParser.Builder().build();
+
+    @Test
+    public void internShortStrings() {
+        final VPackStringInterner interner = new VPackStringInterner(16);
+        final VPackSlice first = PARSER.fromJson("\"name\"");
+        final VPackSlice second = PARSER.fromJson("\"name\"");
+        final String value = interner.intern(first, 16);
+        assertThat(value, is("name"));
+        assertThat(interner.intern(second, 16), is(sameInstance(value)));
+        assertThat(interner.intern(PARSER.fromJson("\"other\""), 16), is("other"));
+    }
+
+    @Test
+    public void skipLongStrings() {
+        final VPackStringInterner interner = new VPackStringInterner(16);
+        final VPackSlice slice = PARSER.fromJson("\"a longer value\"");
+        final String value = interner.intern(slice, 4);
+        assertThat(value, is("a longer value"));
+        assertThat(interner.intern(slice, 4), is(not(sameInstance(value))));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void deserializeBaseDocument() {
+        final VPack vpack = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+        final String json = "{\"_key\":\"1\",\"_rev\":\"r\",\"name\":\"a\",\"number\":-3,\"big\":12345678901,"
+                + "\"ratio\":1.5,\"flag\":true,\"none\":null,\"nested\":{\"list\":[1,{\"type\":\"x\"}],\"empty\":{}}}";
+        final Map<String, Object> expected = vpack.deserialize(PARSER.fromJson(json), Map.class);
+        expected.remove("_key");
+        expected.remove("_rev");
+        final BaseDocument first = vpack.deserialize(PARSER.fromJson(json), BaseDocument.class);
+        final BaseDocument second = vpack.deserialize(PARSER.fromJson(json), BaseDocument.class);
+        assertThat(first.getKey(), is("1"));
+        assertThat(first.getRevision(), is("r"));
+        assertThat(first.getProperties(), is(expected));
+        assertThat(second.getProperties().keySet().iterator().next(),
+                is(sameInstance(first.getProperties().keySet().iterator().next())));
+        final List<?> list = (List<?>) ((Map<?, ?>) second.getProperties().get("nested")).get("list");
+        final List<?> firstList = (List<?>) ((Map<?, ?>) first.getProperties().get("nested")).get("list");
+        assertThat(((Map<?, ?>) list.get(1)).get("type"), is(sameInstance(((Map<?, ?>) firstList.get(1)).get("type"))));
+    }
+
+    @Test
+    public void deserializeCompactObject() {
+        final VPack vpack = new VPack.Builder().registerModule(new VPackDriverModule()).build();
+        final VPackBuilder builder = new VPackBuilder().add(ValueType.OBJECT, true);
+        builder.add("_key", "1");
+        builder.add("b", 2);
+        builder.add("a", "x");
+        builder.close();
+        final BaseDocument document = vpack.deserialize(builder.slice(), BaseDocument.class);
+        assertThat(document.getKey(), is("1"));
+        assertThat(document.getAttribute("a"), is("x"));
+        assertThat(document.getAttribute("b"), is(2L));
+        final BaseDocument second = vpack.deserialize(builder.slice(), BaseDocument.class);
+        assertThat(name(second, "a"), is(sameInstance(name(document, "a"))));
+        assertThat(name(second, "b"), is(sameInstance(name(document, "b"))));
+        assertThat(second.getAttribute("a"), is(sameInstance(document.getAttribute("a"))));
+    }
+
+    @Test
+    public void forEachAttribute() {
+        final VPackStringInterner interner = new VPackStringInterner(16);
+        for (final boolean compact : new boolean[]{false, true}) {
+            final VPackBuilder builder = new VPackBuilder().add(ValueType.OBJECT, compact);
+            builder.add("b", 2);
+            builder.add("a", "x");
+            builder.close();
+            final Map<String, VPackSlice> attributes = new LinkedHashMap<>();
+            interner.forEachAttribute(builder.slice(), attributes::put);
+            assertThat(attributes.keySet(), compact ? contains("b", "a") : contains("a", "b"));
+            assertThat(attributes.get("a").getAsString(), is("x"));
+            assertThat(attributes.get("b").getAsInt(), is(2));
+        }
+    }
+
+    private static String name(final BaseDocument document, final String attribute) {
+        for (final String name : document.getProperties().keySet()) {
+            if (name.equals(attribute)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+}
@@ -95,6 +95,15 @@ public class ArangoSerializationTest {
         assertThat(vpack.getLength(), is(list.size()));
     }
 
+    @Test
+    public void serializeKeepsOptions() {
+        final ArangoSerializer.Options options = new ArangoSerializer.Options();
+        util.serialize(new BaseDocument(), options);
+        assertThat(options.getType() == null, is(true));
+        final VPackSlice vpack = util.serialize(new HashMap<String, Object>(), options);
+        assertThat(vpack.isObject(), is(true));
+    }
+
     @Test
     public void parseJsonIncludeNull() {
         final Map<String, Object> entity = new HashMap<>();